@@ -0,0 +1,15 @@
+package com.sparta.eduwithme.common;
+
+/**
+ * 엔티티 id 발급 설정.
+ * IDENTITY 는 insert 마다 DB 왕복이 필요해 Hibernate JDBC batch 가 꺼지므로,
+ * 테이블 기반 pooled 생성기({table}_seq)로 ALLOCATION_SIZE 개씩 미리 받아 메모리에서 발급한다.
+ * 값을 바꾸면 db/pooled_id_sequences.sql 의 시드 값도 함께 맞춰야 한다.
+ */
+public final class IdAllocation {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
@@ -0,0 +1,180 @@
+package com.sparta.eduwithme.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한(LRU)과 TTL 을 가진 프로세스 내부 캐시.
+ * 같은 키에 대한 동시 적재는 한 번만 실행되고, 적재 도중 무효화가 일어나면 결과를 저장하지 않는다.
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LocalCache(String name, int maximumSize, Duration ttl) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttl.toMillis();
+        // accessOrder = true => 가장 오래 사용되지 않은 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LocalCache.this.maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V getIfPresent(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    hitCount.increment();
+                    return entry.value();
+                }
+                entries.remove(key);
+                evictionCount.increment();
+            }
+        }
+        missCount.increment();
+        return null;
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        long startGeneration = generation.get();
+        try {
+            V value = loader.apply(key);
+            if (value != null && generation.get() == startGeneration) {
+                put(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    // expiresAt(epoch millis) 과 기본 TTL 중 먼저 도래하는 시점에 만료
+    public void put(K key, V value, long expiresAt) {
+        long expiry = Math.min(expiresAt, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, expiry));
+        }
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateIf(Predicate<? super K> predicate) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(predicate);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    // /actuator/metrics/cache.gets?tag=cache:{name} 형태로 조회
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+            .tag("cache", name).tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+            .tag("cache", name).tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", evictionCount, LongAdder::sum)
+            .tag("cache", name)
+            .register(registry);
+        Gauge.builder("cache.size", this, LocalCache::size)
+            .tag("cache", name)
+            .register(registry);
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+    }
+}
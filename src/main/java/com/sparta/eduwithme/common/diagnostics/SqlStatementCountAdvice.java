@@ -0,0 +1,38 @@
+package com.sparta.eduwithme.common.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * diagnostics 프로필 => 응답 본문을 쓰기 직전에 지금까지 실행된 SQL 문 수를 헤더로 내려준다.
+ * (본문이 커밋된 뒤에는 헤더를 붙일 수 없으므로 필터 대신 여기서 기록, 스트리밍 응답은 제외)
+ */
+@RestControllerAdvice
+@Profile("diagnostics")
+@RequiredArgsConstructor
+public class SqlStatementCountAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER, String.valueOf(sqlStatementCounter.current()));
+        return body;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.eduwithme.common.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 현재 스레드 기준으로 센다.
+ * start() 를 호출한 스레드에서만 세므로 평소에는 ThreadLocal 조회 한 번 외에 비용이 없다.
+ * (JdbcTemplate 로 직접 실행하는 쿼리는 포함되지 않는다)
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public void stop() {
+        COUNT.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -14,9 +14,12 @@ public enum ErrorCode {
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "토큰이 만료되었습니다."),
     TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "토큰을 찾을 수 없습니다."),
     PROFANITY_DETECTED(HttpStatus.BAD_REQUEST,"비속어는 사용 하실 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // user
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당하는 유저를 찾을 수 없습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
     EMAIL_MISMATCH(HttpStatus.NOT_FOUND, "이메일이 일치하지 않습니다."),
     USER_NOT_UNIQUE(HttpStatus.BAD_REQUEST, "중복된 유저가 존재합니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "유효하지 않은 비밀번호 형식입니다."),
@@ -43,6 +46,20 @@ public enum ErrorCode {
     QUESTION_ROOM_MISMATCH(HttpStatus.NOT_FOUND,"해당 문제가 선택한 방에 속하지 않습니다."),
     ANSWER_NOT_FOUND(HttpStatus.NOT_FOUND,"해당 문제에 대한 내용을 찾을 수 없습니다."),
     INVALID_NOT_DIFFICULTY(HttpStatus.BAD_REQUEST,"잘못된 난이도 설정입니다."),
+    INVALID_QUESTION_FILE(HttpStatus.BAD_REQUEST,"문제 파일 형식이 올바르지 않습니다."),
+    INVALID_QUESTION_ANSWER(HttpStatus.BAD_REQUEST,"정답 번호는 1 ~ 4 사이여야 합니다."),
+    QUESTION_FIELD_TOO_LONG(HttpStatus.BAD_REQUEST,"제목, 내용, 보기는 255자를 넘을 수 없습니다."),
+    IO_EXCEPTION_QUESTION_FILE(HttpStatus.INTERNAL_SERVER_ERROR,"문제 파일을 읽는 중 IO 예외가 발생했습니다."),
+
+    // quiz
+    INVALID_QUIZ_SESSION(HttpStatus.BAD_REQUEST,"퀴즈 문제 목록이나 제한 시간이 올바르지 않습니다."),
+    QUIZ_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND,"해당 퀴즈를 찾을 수 없습니다."),
+    QUIZ_SESSION_ALREADY_OPEN(HttpStatus.BAD_REQUEST,"이미 진행 중인 퀴즈가 있습니다."),
+    QUIZ_SESSION_CLOSED(HttpStatus.BAD_REQUEST,"이미 종료된 퀴즈입니다."),
+    QUIZ_SESSION_IN_PROGRESS(HttpStatus.BAD_REQUEST,"아직 진행 중인 퀴즈입니다."),
+    QUIZ_SESSION_GRADING_DELAYED(HttpStatus.SERVICE_UNAVAILABLE,"퀴즈 채점이 지연되고 있습니다. 잠시 후 결과를 조회해 주세요."),
+    QUIZ_QUESTION_NOT_IN_SESSION(HttpStatus.BAD_REQUEST,"퀴즈에 포함되지 않은 문제입니다."),
+    LIVE_QUIZ_NOT_FOUND(HttpStatus.NOT_FOUND,"진행 중인 실시간 퀴즈가 없습니다."),
 
     // comment
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND,"해당 댓글을 찾을 수 없습니다."),
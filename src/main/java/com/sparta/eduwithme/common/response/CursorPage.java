@@ -0,0 +1,32 @@
+package com.sparta.eduwithme.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * keyset(커서) 페이지 응답.
+ * nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 이어서 조회한다 (마지막 페이지면 null).
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // size + 1 개를 조회한 결과로 페이지를 만든다 (남는 한 개로 다음 페이지 존재 여부 판단)
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorPage<>(List.copyOf(content), cursorOf.apply(content.get(size - 1)));
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.eduwithme.common.response;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 직렬화가 끝난 응답 본문(UTF-8 JSON)과 본문 SHA-256 으로 만든 strong ETag.
+ * 같은 내용이면 어느 서버에서 만들어도 같은 ETag 가 나온다.
+ */
+public record SerializedResponse(byte[] body, String etag) {
+
+    public static SerializedResponse of(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new SerializedResponse(body, "\"" + HexFormat.of().formatHex(digest) + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
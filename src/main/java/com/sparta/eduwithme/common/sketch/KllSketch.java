@@ -0,0 +1,199 @@
+package com.sparta.eduwithme.common.sketch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL 분위수 스케치 (Karnin-Lang-Liberty).
+ * 값을 레벨별 버퍼에 쌓다가 버퍼가 차면 정렬해서 하나 건너 하나만 가중치 2 배로 윗 레벨에 올린다.
+ * 보관하는 값은 k 에 비례하는 고정 개수이고 순위 오차는 대략 n / k, 같은 k 끼리는 합칠(merge) 수 있다.
+ * 스레드 안전하지 않으므로 갱신은 호출하는 쪽에서 잠그고, 조회는 snapshot() 의 불변 결과로 한다.
+ */
+public class KllSketch {
+
+    // 아래 레벨로 갈수록 버퍼 크기를 2/3 씩 줄인다
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+    private final List<Level> levels = new ArrayList<>();
+    private long n;
+    private int retained;
+    private int maxRetained;
+
+    public KllSketch(int k) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k must be >= " + MIN_CAPACITY);
+        }
+        this.k = k;
+        grow();
+    }
+
+    public void update(double value) {
+        levels.get(0).add(value);
+        n++;
+        retained++;
+        if (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    public void merge(KllSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("cannot merge sketches with different k");
+        }
+        while (levels.size() < other.levels.size()) {
+            grow();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            Level level = other.levels.get(h);
+            levels.get(h).addAll(level.items, level.size);
+        }
+        n += other.n;
+        retained += other.retained;
+        while (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public Snapshot snapshot() {
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int index = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[index] = level.items[i];
+                weights[index] = 1L << h;
+                index++;
+            }
+        }
+
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> values[i]));
+
+        double[] sortedValues = new double[retained];
+        long[] cumulativeWeights = new long[retained];
+        long cumulative = 0;
+        for (int i = 0; i < retained; i++) {
+            cumulative += weights[order[i]];
+            sortedValues[i] = values[order[i]];
+            cumulativeWeights[i] = cumulative;
+        }
+        return new Snapshot(sortedValues, cumulativeWeights, n);
+    }
+
+    // 가득 찬 가장 낮은 레벨부터 윗 레벨로 올린다 (전체 크기가 한도 밑으로 내려가면 멈춘다)
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            if (levels.get(h).size >= capacity(h)) {
+                if (h + 1 == levels.size()) {
+                    grow();
+                }
+                Level level = levels.get(h);
+                int compacted = level.size;
+                level.compactInto(levels.get(h + 1));
+                compacted -= level.size;
+                // compacted 개가 절반으로 줄어 윗 레벨로
+                retained -= compacted - compacted / 2;
+                if (retained < maxRetained) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void grow() {
+        levels.add(new Level());
+        maxRetained = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            maxRetained += capacity(h);
+        }
+    }
+
+    private int capacity(int h) {
+        int depth = levels.size() - h - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private static final class Level {
+
+        private double[] items = new double[8];
+        private int size;
+
+        void add(double value) {
+            ensureCapacity(size + 1);
+            items[size++] = value;
+        }
+
+        void addAll(double[] values, int count) {
+            ensureCapacity(size + count);
+            System.arraycopy(values, 0, items, size, count);
+            size += count;
+        }
+
+        // 정렬 후 짝마다 무작위로 하나만 올린다, 홀수면 가장 작은 값 하나는 남긴다
+        void compactInto(Level upper) {
+            Arrays.sort(items, 0, size);
+            int start = size % 2;
+            int offset = ThreadLocalRandom.current().nextBoolean() ? 1 : 0;
+            for (int i = start; i + 1 < size; i += 2) {
+                upper.add(items[i + offset]);
+            }
+            size = start;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > items.length) {
+                items = Arrays.copyOf(items, Math.max(required, items.length * 2));
+            }
+        }
+    }
+
+    /**
+     * 조회용 불변 스냅샷 => 값 오름차순 + 누적 가중치, 순위 조회는 이진 탐색 한 번 (보관 값 개수는 k 로 고정)
+     */
+    public static final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(new double[0], new long[0], 0);
+
+        private final double[] values;
+        private final long[] cumulativeWeights;
+        private final long n;
+
+        private Snapshot(double[] values, long[] cumulativeWeights, long n) {
+            this.values = values;
+            this.cumulativeWeights = cumulativeWeights;
+            this.n = n;
+        }
+
+        public long getN() {
+            return n;
+        }
+
+        // value 보다 작은 값의 (추정) 개수
+        public long countBelow(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low == 0 ? 0 : cumulativeWeights[low - 1];
+        }
+    }
+}
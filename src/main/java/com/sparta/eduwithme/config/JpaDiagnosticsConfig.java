@@ -0,0 +1,17 @@
+package com.sparta.eduwithme.config;
+
+import com.sparta.eduwithme.common.diagnostics.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaDiagnosticsConfig {
+
+    // SQL 문 수 집계용 StatementInspector 등록 (집계는 SqlStatementCounter.start() 를 호출한 스레드에서만)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+}
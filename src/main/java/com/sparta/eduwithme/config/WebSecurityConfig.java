@@ -1,11 +1,15 @@
 package com.sparta.eduwithme.config;
 
-import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.security.BoundedPasswordEncoder;
 import com.sparta.eduwithme.security.JwtAuthenticationFilter;
 import com.sparta.eduwithme.security.JwtAuthorizationFilter;
+import com.sparta.eduwithme.security.LoginRateLimiter;
+import com.sparta.eduwithme.security.PrincipalCache;
+import com.sparta.eduwithme.security.RefreshTokenStore;
 import com.sparta.eduwithme.security.UserDetailsServiceImpl;
 import com.sparta.eduwithme.util.JwtUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -35,16 +39,47 @@ import static org.springframework.security.web.util.matcher.AntPathRequestMatche
 public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final MeterRegistry meterRegistry;
 
     @Value("${frontend.domain}")
     private String frontendDomain;
 
+    @Value("${jwt.authorization.claims-only:false}")
+    private boolean claimsOnlyAuthorization;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // 0 보다 크면 기동 시 해당 지연시간에 맞춰 strength 를 보정
+    @Value("${security.password.target-hash-millis:0}")
+    private long targetHashMillis;
+
+    // 0 이하면 CPU 코어 수
+    @Value("${security.password.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${security.password.hash-queue-capacity:64}")
+    private int hashQueueCapacity;
+
+    @Value("${security.password.hash-max-wait-millis:3000}")
+    private long hashMaxWaitMillis;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = targetHashMillis > 0 ? BoundedPasswordEncoder.calibrateStrength(targetHashMillis) : bcryptStrength;
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(strength),
+            threads,
+            hashQueueCapacity,
+            hashMaxWaitMillis,
+            meterRegistry
+        );
     }
 
     @Bean
@@ -54,14 +89,14 @@ public class WebSecurityConfig {
 
     @Bean // 인증 필터
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userRepository);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, refreshTokenStore, loginRateLimiter);
         filter.setAuthenticationManager(authenticationManager());
         return filter;
     }
 
     @Bean // 인가 필터
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, principalCache, claimsOnlyAuthorization);
     }
 
     @Bean
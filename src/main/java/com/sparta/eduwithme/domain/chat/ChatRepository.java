@@ -1,6 +1,7 @@
 package com.sparta.eduwithme.domain.chat;
 
 import com.sparta.eduwithme.domain.chat.entity.Chat;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,7 @@ import java.util.List;
 
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Long> {
+    // 채팅마다 작성자를 따로 조회하지 않도록 user 를 함께 가져온다
+    @EntityGraph(attributePaths = "user")
     List<Chat> findTop100ByRoomIdOrderByCreatedAtAsc(Long roomId); // limit을 20으로 설정
 }
@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.chat.entity;
 
+import com.sparta.eduwithme.common.IdAllocation;
 import com.sparta.eduwithme.common.TimeStamp;
 import com.sparta.eduwithme.domain.room.entity.Room;
 import com.sparta.eduwithme.domain.user.entity.User;
@@ -15,17 +16,18 @@ import lombok.NoArgsConstructor;
 public class Chat extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chats_seq")
+    @SequenceGenerator(name = "chats_seq", sequenceName = "chats_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
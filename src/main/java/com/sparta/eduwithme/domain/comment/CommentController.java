@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.comment;
 
+import com.sparta.eduwithme.common.response.CursorPage;
 import com.sparta.eduwithme.common.response.DataCommonResponse;
 import com.sparta.eduwithme.common.response.StatusCommonResponse;
 import com.sparta.eduwithme.domain.comment.dto.CommentRequestDto;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private static final int PAGE_SIZE =10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final CommentService commentService;
 
@@ -50,6 +52,18 @@ public class CommentController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    //Comment 조회 (cursor 페이지)
+    @Operation(summary = "getCommentsByCursor", description = "댓글 전체 조회 기능입니다. (작성 순, 응답의 nextCursor 로 다음 페이지 조회)")
+    @GetMapping("/comments/cursor")
+    public ResponseEntity<DataCommonResponse<CursorPage<CommentResponseDto>>> getCommentsByCursor(@PathVariable Long questionId,
+                                                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                                  @RequestParam(value = "size", defaultValue = "10") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<CommentResponseDto> commentPage = commentService.getCommentsByCursor(questionId, cursor, pageSize);
+        DataCommonResponse<CursorPage<CommentResponseDto>> response = new DataCommonResponse<>(200, "댓글 조회에 성공 하였습니다.", commentPage);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     //Comment 수정
     @Operation(summary = "updateComment", description = "댓글 수정 기능입니다.")
     @PutMapping("/comments/{commentId}")
@@ -6,15 +6,36 @@ import com.sparta.eduwithme.domain.question.entity.Question;
 import com.sparta.eduwithme.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    // 댓글마다 작성자를 따로 조회하지 않도록 user 를 함께 가져온다
+    @EntityGraph(attributePaths = "user")
     Page<Comment> findAllByQuestion(Question question, Pageable pageable);
 
+    // 문제별 댓글 keyset 조회 => (created_at, id) 오름차순, idx_comments_question_created 사용
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.question.id = :questionId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPageByQuestionId(@Param("questionId") Long questionId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.question.id = :questionId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByQuestionIdAfter(@Param("questionId") Long questionId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     @Query("SELECT new com.sparta.eduwithme.domain.comment.dto.CommentRoomDto(" + "c.id, c.user.nickName, c.comment, c.createdAt, c.updatedAt, r.roomName, q.orderInRoom) " +
             "FROM Comment c " +
             "JOIN c.question q " +
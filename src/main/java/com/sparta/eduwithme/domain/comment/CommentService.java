@@ -2,6 +2,7 @@ package com.sparta.eduwithme.domain.comment;
 
 import com.sparta.eduwithme.common.exception.CustomException;
 import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.common.response.CursorPage;
 import com.sparta.eduwithme.domain.comment.dto.CommentRequestDto;
 import com.sparta.eduwithme.domain.comment.dto.CommentResponseDto;
 import com.sparta.eduwithme.domain.comment.dto.CommentRoomDto;
@@ -10,6 +11,7 @@ import com.sparta.eduwithme.domain.profile.ProfileRepository;
 import com.sparta.eduwithme.domain.question.QuestionService;
 import com.sparta.eduwithme.domain.question.entity.Question;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.util.CursorUtil;
 import com.vane.badwordfiltering.BadWordFiltering;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,6 +21,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentService {
@@ -46,6 +51,33 @@ public class CommentService {
         return commentsPage.map(CommentResponseDto::new);
     }
 
+    // 댓글 keyset 조회 => (createdAt, id) 오름차순, count 쿼리 없음
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponseDto> getCommentsByCursor(Long questionId, String cursor, int pageSize) {
+        questionService.findById(questionId);
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = commentRepository.findPageByQuestionId(questionId, limit);
+        } else {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            LocalDateTime createdAt;
+            Long commentId;
+            try {
+                createdAt = LocalDateTime.parse(keys[0]);
+                commentId = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            fetched = commentRepository.findByQuestionIdAfter(questionId, createdAt, commentId, limit);
+        }
+
+        CursorPage<Comment> page = CursorPage.of(fetched, pageSize,
+                comment -> CursorUtil.encode(comment.getCreatedAt(), comment.getId()));
+        return new CursorPage<>(page.getContent().stream().map(CommentResponseDto::new).toList(), page.getNextCursor());
+    }
+
     @Transactional
     public CommentResponseDto updateComment(CommentRequestDto commentRequestDto, Long questionId, Long commentId, User user) {
         Question question = questionService.findById(questionId);
@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.comment.entity;
 
+import com.sparta.eduwithme.common.IdAllocation;
 import com.sparta.eduwithme.common.TimeStamp;
 import com.sparta.eduwithme.domain.comment.dto.CommentRequestDto;
 import com.sparta.eduwithme.domain.question.entity.Question;
@@ -11,10 +12,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(
+    name = "comments",
+    // 문제별 댓글 keyset 조회 (question_id, created_at, id)
+    indexes = @Index(name = "idx_comments_question_created", columnList = "question_id, created_at, id")
+)
 public class Comment extends TimeStamp {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -1,10 +1,12 @@
 package com.sparta.eduwithme.domain.profile;
 
+import com.sparta.eduwithme.common.response.CursorPage;
 import com.sparta.eduwithme.common.response.DataCommonResponse;
 import com.sparta.eduwithme.common.response.StatusCommonResponse;
 import com.sparta.eduwithme.domain.comment.CommentService;
 import com.sparta.eduwithme.domain.comment.dto.CommentRoomDto;
 import com.sparta.eduwithme.domain.profile.dto.*;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
 import com.sparta.eduwithme.security.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -30,6 +32,8 @@ public class ProfileController {
     private final CommentService commentService;
     private final S3ImageService s3ImageService;
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     @Operation(summary = "getProfile", description = "프로필 조회 기능입니다.")
     @GetMapping
     public ResponseEntity<DataCommonResponse<UserProfileDto>> getUserProfile(@AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -115,6 +119,53 @@ public class ProfileController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @Operation(summary = "getProfile", description = "지금 복습할 오답 문제 조회 기능입니다. (10분, 1일, 3일, 7일, 21일 간격 복습)")
+    @GetMapping("/review-due")
+    public ResponseEntity<DataCommonResponse<Page<ReviewDueDto>>> getReviewDue(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                               @RequestParam(defaultValue = "0") int page,
+                                                                               @RequestParam(defaultValue = "5") int size) {
+        Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+        Page<ReviewDueDto> reviewDue = profileService.getReviewDue(userDetails.getUser().getId(), pageable);
+        DataCommonResponse<Page<ReviewDueDto>> response = new DataCommonResponse<>(
+                HttpStatus.OK.value(),
+                "복습할 문제 조회 성공",
+                reviewDue
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "getProfile", description = "해결한 문제 조회 기능입니다. (응답의 nextCursor 로 다음 페이지 조회)")
+    @GetMapping("/solve/cursor")
+    public ResponseEntity<DataCommonResponse<CursorPage<QuestionDto>>> getSolvedQuestionsByCursor(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                                  @RequestParam(required = false) String cursor,
+                                                                                                  @RequestParam(defaultValue = "5") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<QuestionDto> solvedQuestions = profileService.getQuestionsByCursor(
+                userDetails.getUser().getId(), QuestionType.SOLVE, cursor, pageSize);
+        DataCommonResponse<CursorPage<QuestionDto>> response = new DataCommonResponse<>(
+                HttpStatus.OK.value(),
+                "해결한 문제 조회 성공",
+                solvedQuestions
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "getProfile", description = "오답 문제 조회 기능입니다. (응답의 nextCursor 로 다음 페이지 조회)")
+    @GetMapping("/wrong/cursor")
+    public ResponseEntity<DataCommonResponse<CursorPage<QuestionDto>>> getWrongQuestionsByCursor(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                                 @RequestParam(required = false) String cursor,
+                                                                                                 @RequestParam(defaultValue = "5") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<QuestionDto> wrongQuestions = profileService.getQuestionsByCursor(
+                userDetails.getUser().getId(), QuestionType.WRONG, cursor, pageSize);
+        DataCommonResponse<CursorPage<QuestionDto>> response = new DataCommonResponse<>(
+                HttpStatus.OK.value(),
+                "오답 문제 조회 성공",
+                wrongQuestions
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "getProfile", description = "작성한 댓글 조회 기능입니다.")
     @GetMapping("/comments")
     public ResponseEntity<DataCommonResponse<Page<CommentRoomDto>>> getUserComments(@AuthenticationPrincipal UserDetailsImpl userDetails,
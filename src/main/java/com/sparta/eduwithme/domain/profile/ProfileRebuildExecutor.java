@@ -0,0 +1,44 @@
+package com.sparta.eduwithme.domain.profile;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 순위표 / 포인트 분포 / 복습 일정 전체 재구성 전용 스레드 (한 번에 하나씩 순서대로).
+ * 재구성은 전체 테이블을 훑어 오래 걸리므로 시작 이벤트(애플리케이션 준비 지연)나
+ * 공용 @Scheduled 스레드(다른 주기 작업 지연)에서 직접 돌리지 않고 여기에 넘긴다.
+ */
+@Slf4j(topic = "ProfileRebuildExecutor")
+@Component
+public class ProfileRebuildExecutor {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "profile-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public void submit(String name, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("{} failed", name, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            log.warn("{} skipped: {}", name, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -2,22 +2,38 @@ package com.sparta.eduwithme.domain.profile;
 
 import com.sparta.eduwithme.common.exception.CustomException;
 import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.common.response.CursorPage;
 import com.sparta.eduwithme.domain.profile.dto.QuestionDto;
+import com.sparta.eduwithme.domain.profile.dto.ReviewDueDto;
+import com.sparta.eduwithme.domain.profile.dto.ReviewQuestionDto;
 import com.sparta.eduwithme.domain.profile.dto.UpdatePasswordRequestDto;
 import com.sparta.eduwithme.domain.profile.dto.UserProfileDto;
+import com.sparta.eduwithme.domain.profile.ranking.PointPercentileTracker;
+import com.sparta.eduwithme.domain.profile.review.ReviewScheduleStore;
 import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
 import com.sparta.eduwithme.domain.question.entity.QuestionType;
 import com.sparta.eduwithme.domain.user.UserRepository;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.security.PrincipalCache;
+import com.sparta.eduwithme.security.RefreshTokenStore;
+import com.sparta.eduwithme.util.CursorUtil;
 import com.vane.badwordfiltering.BadWordFiltering;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
@@ -29,6 +45,11 @@ public class ProfileService {
     private final LearningStatusRepository learningStatusRepository;
     private final BadWordFiltering badWordFiltering = new BadWordFiltering();
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ReviewScheduleStore reviewScheduleStore;
+    private final QuestionRepository questionRepository;
+    private final PointPercentileTracker pointPercentileTracker;
 
     private String uploadDir;
 
@@ -38,41 +59,25 @@ public class ProfileService {
         User user = profileRepository.findById(userId).orElseThrow(() ->
                 new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 문제를 푼 포인트 총합 가져오기
-        Long totalPoints = learningStatusRepository.findTotalPointsByUserIdAndQuestionType(userId, QuestionType.SOLVE);
-        if (totalPoints == null) {
-            totalPoints = 0L;
-        }
+        // 문제를 푼 포인트 총합 (users 에 유지되는 값, UserTotalsUpdater)
+        Long totalPoints = user.getTotalPoints();
 
-        // 랭킹 계산
-        String ranking = calculateRanking(totalPoints);
+        // 전체 사용자 포인트 분포에서의 백분위 => 등급
+        Double percentile = pointPercentileTracker.percentileOf(totalPoints);
+        String ranking = PointPercentileTracker.tierOf(percentile);
 
         return UserProfileDto.builder()
                 .email(user.getEmail())
                 .nickName(user.getNickName())
                 .photoUrl(user.getPhotoUrl())
                 .ranking(ranking)
+                .percentile(percentile)
                 .points(totalPoints)
+                .solvedCount(user.getSolvedCount())
+                .wrongCount(user.getWrongCount())
                 .build();
     }
 
-    private String calculateRanking(Long totalPoints) {
-        if (totalPoints == null) {
-            return "F";
-        }
-        if (totalPoints <= 50) {
-            return "F";
-        } else if (totalPoints <= 100) {
-            return "D";
-        } else if (totalPoints <= 150) {
-            return "C";
-        } else if (totalPoints <= 200) {
-            return "B";
-        } else {
-            return "A";
-        }
-    }
-
     @Transactional
     public void updateUserProfile(Long userId, String email, String newNickname) {
         User user = userRepository.findById(userId)
@@ -92,6 +97,7 @@ public class ProfileService {
 
         user.updateNickname(newNickname);
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
     }
 
     private boolean isNicknameAvailable(String nickname) {
@@ -114,6 +120,8 @@ public class ProfileService {
 
         user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
         profileRepository.save(user);
+        principalCache.evict(user.getEmail());
+        refreshTokenStore.revokeAll(user.getEmail());
     }
 
     public Page<QuestionDto> getSolvedQuestions(Long userId, Pageable pageable) {
@@ -123,4 +131,40 @@ public class ProfileService {
     public Page<QuestionDto> getWrongQuestions(Long userId, Pageable pageable) {
         return learningStatusRepository.findQuestionsWithRoomByUserAndQuestionType(userId, QuestionType.WRONG, pageable);
     }
+
+    // 지금 복습할 오답 문제 (복습 예정 시각 순)
+    public Page<ReviewDueDto> getReviewDue(Long userId, Pageable pageable) {
+        long now = System.currentTimeMillis();
+        long dueCount = reviewScheduleStore.countDue(userId, now);
+        List<ReviewScheduleStore.ReviewItem> items = reviewScheduleStore.findDue(userId, now, pageable.getOffset(), pageable.getPageSize());
+        if (items.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, dueCount);
+        }
+
+        Map<Long, ReviewQuestionDto> questions = questionRepository.findReviewQuestions(
+                items.stream().map(ReviewScheduleStore.ReviewItem::questionId).toList()
+        ).stream().collect(Collectors.toMap(ReviewQuestionDto::getQuestionId, Function.identity()));
+
+        List<ReviewDueDto> content = new ArrayList<>(items.size());
+        int dropped = 0;
+        for (ReviewScheduleStore.ReviewItem item : items) {
+            ReviewQuestionDto question = questions.get(item.questionId());
+            if (question == null) {
+                // 삭제된 문제는 일정에서도 제거하고 전체 개수에서도 뺀다
+                reviewScheduleStore.remove(userId, item.questionId());
+                dropped++;
+                continue;
+            }
+            content.add(new ReviewDueDto(question, item.step(), item.dueAt()));
+        }
+        return new PageImpl<>(content, pageable, Math.max(0, dueCount - dropped));
+    }
+
+    // 해결/오답 문제 keyset 조회 => question_id 오름차순, count 쿼리 없음
+    public CursorPage<QuestionDto> getQuestionsByCursor(Long userId, QuestionType questionType, String cursor, int size) {
+        long lastQuestionId = (cursor == null || cursor.isBlank()) ? 0L : CursorUtil.decodeLong(cursor);
+        List<QuestionDto> fetched = learningStatusRepository.findQuestionsWithRoomByUserAndQuestionTypeAfter(
+                userId, questionType, lastQuestionId, PageRequest.of(0, size + 1));
+        return CursorPage.of(fetched, size, question -> CursorUtil.encode(question.getQuestionId()));
+    }
 }
\ No newline at end of file
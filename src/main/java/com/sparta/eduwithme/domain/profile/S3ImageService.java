@@ -22,6 +22,7 @@ import com.sparta.eduwithme.common.exception.CustomException;
 import com.sparta.eduwithme.common.exception.ErrorCode;
 import com.sparta.eduwithme.domain.user.entity.User;
 import com.sparta.eduwithme.domain.user.service.UserService;
+import com.sparta.eduwithme.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,6 +36,7 @@ public class S3ImageService {
 
     private final AmazonS3 amazonS3;
     private final ProfileRepository profileRepository;
+    private final PrincipalCache principalCache;
 
     @Value("${cloud.aws.s3.bucketName}")
     private String bucketName;
@@ -106,6 +108,7 @@ public class S3ImageService {
                     new CustomException(ErrorCode.USER_NOT_FOUND));
             user.updatePhotoUrl(amazonS3.getUrl(bucketName, s3FileName).toString());
             profileRepository.save(user);
+            principalCache.evict(user.getEmail());
         } catch (Exception e) {
             // 예외 발생 시 커스텀 예외 처리
             throw new CustomException(ErrorCode.PUT_OBJECT_FAILURE);
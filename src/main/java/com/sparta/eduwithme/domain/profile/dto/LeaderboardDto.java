@@ -0,0 +1,17 @@
+package com.sparta.eduwithme.domain.profile.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardDto {
+    // null => 전체 순위표
+    private final Long roomId;
+    private final long participantCount;
+    // 상위 N 명 또는 내 순위 앞뒤
+    private final List<LeaderboardEntryDto> entries;
+    // 내 순위 조회일 때만, 순위표에 없으면 null
+    private final LeaderboardEntryDto me;
+}
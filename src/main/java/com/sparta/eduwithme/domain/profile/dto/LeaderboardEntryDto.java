@@ -0,0 +1,14 @@
+package com.sparta.eduwithme.domain.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+    private final long rank;
+    private final Long userId;
+    private final String nickName;
+    private final String photoUrl;
+    private final long points;
+}
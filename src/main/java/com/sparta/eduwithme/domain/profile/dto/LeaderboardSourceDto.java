@@ -0,0 +1,19 @@
+package com.sparta.eduwithme.domain.profile.dto;
+
+import lombok.Getter;
+
+/**
+ * 순위표 재구성용 projection => (방, 사용자) 별 맞춘 문제 배점 합
+ */
+@Getter
+public class LeaderboardSourceDto {
+    private final Long roomId;
+    private final Long userId;
+    private final Long points;
+
+    public LeaderboardSourceDto(Long roomId, Long userId, Long points) {
+        this.roomId = roomId;
+        this.userId = userId;
+        this.points = points;
+    }
+}
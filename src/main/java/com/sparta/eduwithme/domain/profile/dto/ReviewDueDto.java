@@ -0,0 +1,33 @@
+package com.sparta.eduwithme.domain.profile.dto;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import lombok.Getter;
+
+@Getter
+public class ReviewDueDto {
+    private final Long questionId;
+    private final Long roomId;
+    private final String roomName;
+    private final Long orderInRoom;
+    private final String title;
+    private final String category;
+    private final String difficulty;
+    private final int reviewStep;
+    private final String formattedDueAt;
+
+    public ReviewDueDto(ReviewQuestionDto question, int reviewStep, long dueAt) {
+        this.questionId = question.getQuestionId();
+        this.roomId = question.getRoomId();
+        this.roomName = question.getRoomName();
+        this.orderInRoom = question.getOrderInRoom();
+        this.title = question.getTitle();
+        this.category = question.getCategory();
+        this.difficulty = question.getDifficulty();
+        this.reviewStep = reviewStep;
+        this.formattedDueAt = Instant.ofEpochMilli(dueAt)
+                .atZone(ZoneId.of("Asia/Seoul"))
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.eduwithme.domain.profile.dto;
+
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import lombok.Getter;
+
+/**
+ * 복습 목록에 붙일 문제/방 정보 projection
+ */
+@Getter
+public class ReviewQuestionDto {
+    private final Long questionId;
+    private final Long roomId;
+    private final String roomName;
+    private final Long orderInRoom;
+    private final String title;
+    private final String category;
+    private final String difficulty;
+
+    public ReviewQuestionDto(Long questionId, Long roomId, String roomName, Long orderInRoom, String title,
+                             Category category, Difficulty difficulty) {
+        this.questionId = questionId;
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.orderInRoom = orderInRoom;
+        this.title = title;
+        this.category = category.getCategoryName();
+        this.difficulty = difficulty == null ? null : difficulty.getLevel();
+    }
+}
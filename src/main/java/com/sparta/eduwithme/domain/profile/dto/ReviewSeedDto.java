@@ -0,0 +1,22 @@
+package com.sparta.eduwithme.domain.profile.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 복습 일정 백필용 projection => 오답 상태인 learning_status 한 행
+ */
+@Getter
+public class ReviewSeedDto {
+    private final Long id;
+    private final Long userId;
+    private final Long questionId;
+    private final LocalDateTime updatedAt;
+
+    public ReviewSeedDto(Long id, Long userId, Long questionId, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.questionId = questionId;
+        this.updatedAt = updatedAt;
+    }
+}
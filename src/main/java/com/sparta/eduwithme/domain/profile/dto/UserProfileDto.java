@@ -10,5 +10,9 @@ public class UserProfileDto {
     private String nickName;
     private String photoUrl;
     private String ranking;
+    // 나보다 포인트가 적은 사용자 비율 (0 ~ 100), 분포 준비 전이면 null
+    private Double percentile;
     private Long points;
+    private Long solvedCount;
+    private Long wrongCount;
 }
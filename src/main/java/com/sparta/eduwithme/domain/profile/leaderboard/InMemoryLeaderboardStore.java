@@ -0,0 +1,150 @@
+package com.sparta.eduwithme.domain.profile.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 테스트/로컬용 (profile.leaderboard.store=memory)
+@Component
+@ConditionalOnProperty(name = "profile.leaderboard.store", havingValue = "memory")
+public class InMemoryLeaderboardStore implements LeaderboardStore {
+
+    private final Board global = new Board();
+    private final ConcurrentHashMap<Long, Board> rooms = new ConcurrentHashMap<>();
+
+    @Override
+    public long addPoints(Long roomId, Long userId, long points) {
+        rooms.computeIfAbsent(roomId, id -> new Board()).add(userId, points);
+        return global.add(userId, points);
+    }
+
+    @Override
+    public List<LeaderboardEntry> top(Long roomId, int limit) {
+        Board board = boardOf(roomId);
+        return board == null ? List.of() : board.range(0, limit - 1L);
+    }
+
+    @Override
+    public List<LeaderboardEntry> around(Long roomId, Long userId, int radius) {
+        Board board = boardOf(roomId);
+        return board == null ? List.of() : board.around(userId, radius);
+    }
+
+    @Override
+    public long size(Long roomId) {
+        Board board = boardOf(roomId);
+        return board == null ? 0 : board.size();
+    }
+
+    @Override
+    public void replace(Long roomId, Map<Long, Long> scores) {
+        if (roomId == null) {
+            global.replace(scores);
+            return;
+        }
+        Board board = new Board();
+        board.replace(scores);
+        rooms.put(roomId, board);
+    }
+
+    @Override
+    public void removeRoom(Long roomId) {
+        Board board = rooms.remove(roomId);
+        if (board != null) {
+            board.scores().forEach((userId, score) -> global.add(userId, -score));
+        }
+    }
+
+    @Override
+    public void removeUser(Long userId, Collection<Long> roomIds) {
+        global.remove(userId);
+        roomIds.forEach(roomId -> {
+            Board board = rooms.get(roomId);
+            if (board != null) {
+                board.remove(userId);
+            }
+        });
+    }
+
+    private Board boardOf(Long roomId) {
+        return roomId == null ? global : rooms.get(roomId);
+    }
+
+    private static final class Board {
+
+        private final TreeSet<Score> ranking = new TreeSet<>(
+            Comparator.comparingLong(Score::score).reversed().thenComparing(Score::userId));
+        private final Map<Long, Score> byUser = new HashMap<>();
+
+        synchronized long add(Long userId, long points) {
+            Score current = byUser.remove(userId);
+            long score = (current == null ? 0 : current.score()) + points;
+            if (current != null) {
+                ranking.remove(current);
+            }
+            if (score > 0) {
+                Score next = new Score(userId, score);
+                byUser.put(userId, next);
+                ranking.add(next);
+            }
+            return score;
+        }
+
+        synchronized void remove(Long userId) {
+            Score removed = byUser.remove(userId);
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+        }
+
+        synchronized void replace(Map<Long, Long> scores) {
+            ranking.clear();
+            byUser.clear();
+            scores.forEach(this::add);
+        }
+
+        synchronized List<LeaderboardEntry> range(long start, long end) {
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            long rank = 0;
+            for (Score score : ranking) {
+                if (rank > end) {
+                    break;
+                }
+                if (rank >= start) {
+                    entries.add(new LeaderboardEntry(score.userId(), rank + 1, score.score()));
+                }
+                rank++;
+            }
+            return entries;
+        }
+
+        synchronized List<LeaderboardEntry> around(Long userId, int radius) {
+            Score score = byUser.get(userId);
+            if (score == null) {
+                return List.of();
+            }
+            long rank = ranking.headSet(score).size();
+            return range(Math.max(0, rank - radius), rank + radius);
+        }
+
+        synchronized long size() {
+            return byUser.size();
+        }
+
+        synchronized Map<Long, Long> scores() {
+            Map<Long, Long> scores = new HashMap<>(byUser.size());
+            byUser.forEach((userId, score) -> scores.put(userId, score.score()));
+            return scores;
+        }
+    }
+
+    private record Score(Long userId, long score) {
+    }
+}
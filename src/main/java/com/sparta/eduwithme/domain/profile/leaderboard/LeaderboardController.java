@@ -0,0 +1,69 @@
+package com.sparta.eduwithme.domain.profile.leaderboard;
+
+import com.sparta.eduwithme.common.response.DataCommonResponse;
+import com.sparta.eduwithme.domain.profile.dto.LeaderboardDto;
+import com.sparta.eduwithme.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+    private static final int MAX_LEADERBOARD_RADIUS = 10;
+
+    private final LeaderboardService leaderboardService;
+
+    //전체 순위 상위 N 명
+    @Operation(summary = "getLeaderboard", description = "전체 포인트 순위 조회 기능입니다.")
+    @GetMapping("/api/leaderboard")
+    public ResponseEntity<DataCommonResponse<LeaderboardDto>> getLeaderboard(@RequestParam(defaultValue = "10") int size) {
+        LeaderboardDto leaderboard = leaderboardService.getTop(null, clamp(size, MAX_LEADERBOARD_SIZE));
+        DataCommonResponse<LeaderboardDto> response = new DataCommonResponse<>(200, "순위 조회를 성공하였습니다.", leaderboard);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //전체 순위에서 내 순위와 앞뒤
+    @Operation(summary = "getMyLeaderboardRank", description = "전체 포인트 순위에서 내 순위 조회 기능입니다. (앞뒤 radius 명 포함)")
+    @GetMapping("/api/leaderboard/me")
+    public ResponseEntity<DataCommonResponse<LeaderboardDto>> getMyRank(@RequestParam(defaultValue = "2") int radius,
+                                                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        LeaderboardDto leaderboard = leaderboardService.getMyRank(null, userDetails.getUser().getId(), clampRadius(radius));
+        DataCommonResponse<LeaderboardDto> response = new DataCommonResponse<>(200, "내 순위 조회를 성공하였습니다.", leaderboard);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //방 순위 상위 N 명
+    @Operation(summary = "getRoomLeaderboard", description = "방 포인트 순위 조회 기능입니다.")
+    @GetMapping("/api/rooms/{roomId}/leaderboard")
+    public ResponseEntity<DataCommonResponse<LeaderboardDto>> getRoomLeaderboard(@PathVariable Long roomId,
+                                                                                 @RequestParam(defaultValue = "10") int size) {
+        LeaderboardDto leaderboard = leaderboardService.getTop(roomId, clamp(size, MAX_LEADERBOARD_SIZE));
+        DataCommonResponse<LeaderboardDto> response = new DataCommonResponse<>(200, "방 순위 조회를 성공하였습니다.", leaderboard);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //방 순위에서 내 순위와 앞뒤
+    @Operation(summary = "getMyRoomLeaderboardRank", description = "방 포인트 순위에서 내 순위 조회 기능입니다. (앞뒤 radius 명 포함)")
+    @GetMapping("/api/rooms/{roomId}/leaderboard/me")
+    public ResponseEntity<DataCommonResponse<LeaderboardDto>> getMyRoomRank(@PathVariable Long roomId,
+                                                                            @RequestParam(defaultValue = "2") int radius,
+                                                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        LeaderboardDto leaderboard = leaderboardService.getMyRank(roomId, userDetails.getUser().getId(), clampRadius(radius));
+        DataCommonResponse<LeaderboardDto> response = new DataCommonResponse<>(200, "내 방 순위 조회를 성공하였습니다.", leaderboard);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    private int clamp(int size, int max) {
+        return Math.max(1, Math.min(size, max));
+    }
+
+    private int clampRadius(int radius) {
+        return Math.max(0, Math.min(radius, MAX_LEADERBOARD_RADIUS));
+    }
+}
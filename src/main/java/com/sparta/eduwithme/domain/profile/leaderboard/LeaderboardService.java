@@ -0,0 +1,61 @@
+package com.sparta.eduwithme.domain.profile.leaderboard;
+
+import com.sparta.eduwithme.domain.profile.dto.LeaderboardDto;
+import com.sparta.eduwithme.domain.profile.dto.LeaderboardEntryDto;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 순위와 점수는 순위표 저장소에서, 닉네임 / 사진은 화면에 나갈 사용자만 PK 로 조회
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private final LeaderboardStore leaderboardStore;
+    private final UserRepository userRepository;
+
+    // roomId 가 null 이면 전체
+    public LeaderboardDto getTop(Long roomId, int size) {
+        List<LeaderboardEntryDto> entries = toEntryDtos(leaderboardStore.top(roomId, size));
+        return new LeaderboardDto(roomId, leaderboardStore.size(roomId), entries, null);
+    }
+
+    // 내 순위와 앞뒤 radius 명
+    public LeaderboardDto getMyRank(Long roomId, Long userId, int radius) {
+        List<LeaderboardEntryDto> entries = toEntryDtos(leaderboardStore.around(roomId, userId, radius));
+        LeaderboardEntryDto me = entries.stream()
+            .filter(entry -> entry.getUserId().equals(userId))
+            .findFirst()
+            .orElse(null);
+        return new LeaderboardDto(roomId, leaderboardStore.size(roomId), entries, me);
+    }
+
+    private List<LeaderboardEntryDto> toEntryDtos(List<LeaderboardStore.LeaderboardEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(
+            entries.stream().map(LeaderboardStore.LeaderboardEntry::userId).toList()
+        ).stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<LeaderboardEntryDto> dtos = new ArrayList<>(entries.size());
+        for (LeaderboardStore.LeaderboardEntry entry : entries) {
+            User user = users.get(entry.userId());
+            dtos.add(new LeaderboardEntryDto(
+                entry.rank(),
+                entry.userId(),
+                user == null ? null : user.getNickName(),
+                user == null ? null : user.getPhotoUrl(),
+                entry.score()
+            ));
+        }
+        return dtos;
+    }
+}
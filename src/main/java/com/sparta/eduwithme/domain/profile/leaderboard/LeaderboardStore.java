@@ -0,0 +1,36 @@
+package com.sparta.eduwithme.domain.profile.leaderboard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 순위표 저장소 (전체 하나 + 방마다 하나, roomId 가 null 이면 전체).
+ * 점수는 사용자가 맞춘 문제의 배점 합이고, 순위는 1 부터 점수 내림차순 (동점자 순서는 저장소가 정한다).
+ * 새로 얻은 포인트만 더해 가므로 배점 변경 / 문제 삭제는 다음 전체 재구성 때 맞춰진다.
+ */
+public interface LeaderboardStore {
+
+    // 전체와 방 순위표에 함께 더한다 => 더한 뒤 전체 점수
+    long addPoints(Long roomId, Long userId, long points);
+
+    // 1 위부터 limit 명
+    List<LeaderboardEntry> top(Long roomId, int limit);
+
+    // 사용자와 앞뒤 radius 명 (순위 순), 순위표에 없으면 빈 목록
+    List<LeaderboardEntry> around(Long roomId, Long userId, int radius);
+
+    long size(Long roomId);
+
+    // 전체 재구성 => 순위표를 scores (사용자 id -> 점수) 로 통째로 바꾼다
+    void replace(Long roomId, Map<Long, Long> scores);
+
+    // 방 삭제 시 => 방 순위표를 지우고 그 점수만큼 전체 순위표에서 뺀다
+    void removeRoom(Long roomId);
+
+    // 회원 탈퇴 시 => 전체와 참여했던 방 순위표에서 뺀다
+    void removeUser(Long userId, Collection<Long> roomIds);
+
+    record LeaderboardEntry(Long userId, long rank, long score) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.sparta.eduwithme.domain.profile.leaderboard;
+
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.domain.profile.ProfileRebuildExecutor;
+import com.sparta.eduwithme.domain.profile.dto.LeaderboardSourceDto;
+import com.sparta.eduwithme.domain.question.QuestionService;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.event.LearningStatusAppliedEvent;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
+import com.sparta.eduwithme.domain.room.repository.RoomRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 순위표 갱신.
+ * 커밋된 제출 중 포인트를 새로 얻은 것만 전체 / 방 순위표에 더하고,
+ * 배점 변경 / 문제 삭제처럼 증감으로 맞출 수 없는 변화는 주기적인 전체 재구성(learning_status 기준)으로 맞춘다.
+ * 재구성 도중 커밋된 제출은 다음 재구성까지 빠지거나 두 번 더해질 수 있다.
+ */
+@Slf4j(topic = "LeaderboardUpdater")
+@Component
+@RequiredArgsConstructor
+public class LeaderboardUpdater {
+
+    private static final int REBUILD_ROOM_BATCH_SIZE = 100;
+
+    private final LeaderboardStore leaderboardStore;
+    private final QuestionService questionService;
+    private final LearningStatusRepository learningStatusRepository;
+    private final RoomRepository roomRepository;
+    private final ProfileRebuildExecutor profileRebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLearningStatusApplied(LearningStatusAppliedEvent event) {
+        for (LearningStatusOutcomeDto outcome : event.getOutcomes()) {
+            if (!outcome.isNewlyEarned()) {
+                continue;
+            }
+            try {
+                // 배점은 캐시된 문제 상세에서 (제출 직후라 대부분 캐시에 있다)
+                Long point = questionService.getQuestionDetail(outcome.getRoomId(), outcome.getQuestionId()).getPoint();
+                if (point != null && point > 0) {
+                    leaderboardStore.addPoints(outcome.getRoomId(), outcome.getUserId(), point);
+                }
+            } catch (CustomException e) {
+                // 그 사이 삭제된 문제
+                log.debug("leaderboard skipped deleted question {}", outcome.getQuestionId());
+            } catch (DataAccessException e) {
+                log.warn("leaderboard update failed, userId={}, questionId={}: {}",
+                    outcome.getUserId(), outcome.getQuestionId(), e.getMessage());
+            }
+        }
+    }
+
+    // 순위표가 비어 있으면(첫 배포, Redis 초기화) 시작할 때 채운다 (재구성 스레드에서)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        profileRebuildExecutor.submit("leaderboard rebuild", () -> {
+            try {
+                if (leaderboardStore.size(null) == 0) {
+                    rebuild();
+                }
+            } catch (DataAccessException e) {
+                log.error("leaderboard check failed", e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${profile.leaderboard.rebuild-cron:0 30 4 * * *}")
+    public void scheduleRebuild() {
+        profileRebuildExecutor.submit("leaderboard rebuild", this::rebuild);
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Map<Long, Long> globalScores = new HashMap<>();
+            long lastRoomId = 0L;
+            int roomCount = 0;
+            while (true) {
+                List<Long> roomIds = roomRepository.findIdsAfter(lastRoomId, PageRequest.of(0, REBUILD_ROOM_BATCH_SIZE));
+                if (roomIds.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, Map<Long, Long>> roomScores = new HashMap<>();
+                roomIds.forEach(roomId -> roomScores.put(roomId, new HashMap<>()));
+                for (LeaderboardSourceDto source : learningStatusRepository.findLeaderboardSources(roomIds, QuestionType.SOLVE)) {
+                    long points = source.getPoints() == null ? 0L : source.getPoints();
+                    if (points <= 0) {
+                        continue;
+                    }
+                    roomScores.get(source.getRoomId()).put(source.getUserId(), points);
+                    globalScores.merge(source.getUserId(), points, Long::sum);
+                }
+                roomScores.forEach(leaderboardStore::replace);
+
+                roomCount += roomIds.size();
+                if (roomIds.size() < REBUILD_ROOM_BATCH_SIZE) {
+                    break;
+                }
+                lastRoomId = roomIds.get(roomIds.size() - 1);
+            }
+            leaderboardStore.replace(null, globalScores);
+            log.info("leaderboard rebuilt: {} rooms, {} users in {}ms",
+                roomCount, globalScores.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("leaderboard rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sparta.eduwithme.domain.profile.leaderboard;
+
+import com.sparta.eduwithme.util.RedisUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * leaderboard:global, leaderboard:room:{roomId} => Sorted Set (member = 사용자 id, score = 포인트)
+ * 순위는 ZREVRANK, 상위 / 주변은 ZREVRANGE 한 번 (O(log n + m)), DB 는 보지 않는다.
+ * 재구성은 임시 키에 채운 뒤 RENAME 으로 바꿔 끼워서 읽는 쪽은 항상 완성된 순위표만 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "profile.leaderboard.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final String GLOBAL_KEY = "leaderboard:global";
+    private static final String ROOM_PREFIX = "leaderboard:room:";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final int REPLACE_BATCH_SIZE = 1000;
+
+    // KEYS => 전체, 방 / ARGV => 포인트, 사용자 id => 더한 뒤 전체 점수
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+        "local total = redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+        "redis.call('ZINCRBY', KEYS[2], ARGV[1], ARGV[2]) " +
+        "return tonumber(total)",
+        Long.class
+    );
+
+    // KEYS => 방, 전체 / 방 점수를 전체에서 빼고 0 점 이하가 된 사용자는 전체에서도 제거
+    private static final RedisScript<Long> REMOVE_ROOM_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') " +
+        "for i = 1, #entries, 2 do " +
+        "  redis.call('ZINCRBY', KEYS[2], -tonumber(entries[i + 1]), entries[i]) " +
+        "end " +
+        "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', 0) " +
+        "redis.call('DEL', KEYS[1]) " +
+        "return #entries / 2",
+        Long.class
+    );
+
+    private final RedisUtil redisUtil;
+
+    @Override
+    public long addPoints(Long roomId, Long userId, long points) {
+        Long total = redisUtil.executeScript(ADD_SCRIPT, List.of(GLOBAL_KEY, keyOf(roomId)), String.valueOf(points), String.valueOf(userId));
+        return total == null ? points : total;
+    }
+
+    @Override
+    public List<LeaderboardEntry> top(Long roomId, int limit) {
+        return range(keyOf(roomId), 0, limit - 1L);
+    }
+
+    @Override
+    public List<LeaderboardEntry> around(Long roomId, Long userId, int radius) {
+        String key = keyOf(roomId);
+        Long rank = redisUtil.reverseRankOfSortedSet(key, String.valueOf(userId));
+        if (rank == null) {
+            return List.of();
+        }
+        return range(key, Math.max(0, rank - radius), rank + radius);
+    }
+
+    @Override
+    public long size(Long roomId) {
+        Long size = redisUtil.sizeOfSortedSet(keyOf(roomId));
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public void replace(Long roomId, Map<Long, Long> scores) {
+        String key = keyOf(roomId);
+        if (scores.isEmpty()) {
+            redisUtil.deleteData(key);
+            return;
+        }
+
+        String rebuildKey = key + REBUILD_SUFFIX;
+        redisUtil.deleteData(rebuildKey);
+        Set<ZSetOperations.TypedTuple<String>> batch = new HashSet<>();
+        for (Map.Entry<Long, Long> score : scores.entrySet()) {
+            batch.add(new DefaultTypedTuple<>(String.valueOf(score.getKey()), score.getValue().doubleValue()));
+            if (batch.size() == REPLACE_BATCH_SIZE) {
+                redisUtil.addSortedSetMembers(rebuildKey, batch);
+                batch = new HashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisUtil.addSortedSetMembers(rebuildKey, batch);
+        }
+        redisUtil.renameKey(rebuildKey, key);
+    }
+
+    @Override
+    public void removeRoom(Long roomId) {
+        redisUtil.executeScript(REMOVE_ROOM_SCRIPT, List.of(keyOf(roomId), GLOBAL_KEY));
+    }
+
+    @Override
+    public void removeUser(Long userId, Collection<Long> roomIds) {
+        String member = String.valueOf(userId);
+        redisUtil.removeSortedSetMember(GLOBAL_KEY, member);
+        roomIds.forEach(roomId -> redisUtil.removeSortedSetMember(keyOf(roomId), member));
+    }
+
+    private List<LeaderboardEntry> range(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisUtil.reverseRangeSortedSetWithScores(key, start, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>(tuples.size());
+        long rank = start + 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(new LeaderboardEntry(Long.valueOf(tuple.getValue()), rank++, tuple.getScore().longValue()));
+        }
+        return entries;
+    }
+
+    private String keyOf(Long roomId) {
+        return roomId == null ? GLOBAL_KEY : ROOM_PREFIX + roomId;
+    }
+}
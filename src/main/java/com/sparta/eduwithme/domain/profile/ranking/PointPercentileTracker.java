@@ -0,0 +1,181 @@
+package com.sparta.eduwithme.domain.profile.ranking;
+
+import com.sparta.eduwithme.common.sketch.KllSketch;
+import com.sparta.eduwithme.domain.profile.ProfileRebuildExecutor;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.dto.UserPointsDto;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 사용자 포인트 분포 (KLL 스케치) 로 백분위와 등급을 계산.
+ * 스케치는 값을 뺄 수 없으므로 포인트가 바뀌면 이전 값은 removed, 새 값은 current 에 넣고 두 분포의 차로 계산한다.
+ * 주기적으로 만든 불변 스냅샷에서 이진 탐색만 하므로 프로필 조회에 집계 쿼리가 없다 (보관 값 개수는 k 로 고정).
+ * 두 분포의 차는 변경 횟수만큼 오차가 커지므로, 누적 변경(current + removed 개수)이 실제 사용자 수의
+ * DRIFT_REBUILD_RATIO 배를 넘거나 하루 한 번 주기가 되면 users.total_points 로 다시 만든다 (배점 변경 / 방 삭제도 이때 맞춰진다).
+ */
+@Slf4j(topic = "PointPercentileTracker")
+@Component
+public class PointPercentileTracker {
+
+    // 백분위(나보다 포인트가 적은 사용자 비율) 하한 => 등급, 모두 못 넘으면 F
+    private static final double[] TIER_CUTOFFS = {90, 70, 50, 20};
+    private static final String[] TIERS = {"A", "B", "C", "D"};
+    private static final String LOWEST_TIER = "F";
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final long DRIFT_REBUILD_RATIO = 2;
+
+    private final UserRepository userRepository;
+    private final ProfileRebuildExecutor profileRebuildExecutor;
+    private final int sketchK;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    // lock 으로 보호
+    private final Object lock = new Object();
+    private KllSketch current;
+    private KllSketch removed;
+    private boolean changed;
+
+    private volatile Distribution distribution = Distribution.EMPTY;
+
+    public PointPercentileTracker(UserRepository userRepository,
+                                  ProfileRebuildExecutor profileRebuildExecutor,
+                                  @Value("${profile.ranking.sketch-k:200}") int sketchK) {
+        this.userRepository = userRepository;
+        this.profileRebuildExecutor = profileRebuildExecutor;
+        this.sketchK = sketchK;
+        this.current = new KllSketch(sketchK);
+        this.removed = new KllSketch(sketchK);
+    }
+
+    // 가입 (0 점)
+    public void onUserAdded() {
+        synchronized (lock) {
+            current.update(0);
+            changed = true;
+        }
+    }
+
+    public void onPointsChanged(long before, long after) {
+        synchronized (lock) {
+            removed.update(before);
+            current.update(after);
+            changed = true;
+        }
+    }
+
+    // 탈퇴
+    public void onUserRemoved(long points) {
+        synchronized (lock) {
+            removed.update(points);
+            changed = true;
+        }
+    }
+
+    // 0 ~ 100 (소수 첫째 자리까지), 분포를 아직 만들지 못했으면 null
+    public Double percentileOf(long points) {
+        return distribution.percentileOf(points);
+    }
+
+    public static String tierOf(Double percentile) {
+        if (percentile == null) {
+            return LOWEST_TIER;
+        }
+        for (int i = 0; i < TIER_CUTOFFS.length; i++) {
+            if (percentile >= TIER_CUTOFFS[i]) {
+                return TIERS[i];
+            }
+        }
+        return LOWEST_TIER;
+    }
+
+    @Scheduled(fixedDelayString = "${profile.ranking.snapshot-interval-millis:60000}")
+    public void snapshot() {
+        KllSketch.Snapshot currentSnapshot;
+        KllSketch.Snapshot removedSnapshot;
+        boolean drifted;
+        synchronized (lock) {
+            if (!changed) {
+                return;
+            }
+            changed = false;
+            currentSnapshot = current.snapshot();
+            removedSnapshot = removed.snapshot();
+            long live = current.getN() - removed.getN();
+            drifted = current.getN() + removed.getN() > DRIFT_REBUILD_RATIO * Math.max(live, 1);
+        }
+        distribution = new Distribution(currentSnapshot, removedSnapshot);
+        if (drifted) {
+            requestRebuild();
+        }
+    }
+
+    // 시작 시 / 매일 / 오차가 커졌을 때 => 재구성 스레드에서 (이미 대기 중이면 합친다)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${profile.ranking.rebuild-cron:0 40 4 * * *}")
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            profileRebuildExecutor.submit("point distribution rebuild", this::rebuild);
+        }
+    }
+
+    // 재구성 도중 바뀐 포인트는 다음 재구성까지 빠지거나 두 번 들어갈 수 있다
+    public void rebuild() {
+        rebuildQueued.set(false);
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            KllSketch rebuilt = new KllSketch(sketchK);
+            long lastId = 0L;
+            while (true) {
+                List<UserPointsDto> batch = userRepository.findPointsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (UserPointsDto user : batch) {
+                    rebuilt.update(user.getTotalPoints() == null ? 0L : user.getTotalPoints());
+                }
+                if (batch.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getUserId();
+            }
+
+            synchronized (lock) {
+                current = rebuilt;
+                removed = new KllSketch(sketchK);
+                changed = true;
+            }
+            snapshot();
+            log.info("point distribution rebuilt: {} users in {}ms", rebuilt.getN(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            // 이전 분포를 그대로 쓴다
+            log.error("point distribution rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private record Distribution(KllSketch.Snapshot current, KllSketch.Snapshot removed) {
+
+        static final Distribution EMPTY = new Distribution(KllSketch.Snapshot.EMPTY, KllSketch.Snapshot.EMPTY);
+
+        // 나보다 포인트가 적은 사용자 비율
+        Double percentileOf(long points) {
+            long n = current.getN() - removed.getN();
+            if (n <= 0) {
+                return null;
+            }
+            long below = current.countBelow(points) - removed.countBelow(points);
+            double ratio = Math.min(1.0, Math.max(0.0, (double) below / n));
+            return Math.round(ratio * 1000) / 10.0;
+        }
+    }
+}
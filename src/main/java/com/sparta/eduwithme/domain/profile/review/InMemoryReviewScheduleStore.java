@@ -0,0 +1,134 @@
+package com.sparta.eduwithme.domain.profile.review;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 테스트/로컬용 (profile.review.store=memory)
+@Component
+@ConditionalOnProperty(name = "profile.review.store", havingValue = "memory")
+public class InMemoryReviewScheduleStore implements ReviewScheduleStore {
+
+    private final ConcurrentHashMap<Long, UserSchedule> schedules = new ConcurrentHashMap<>();
+    private volatile boolean backfilled;
+
+    @Override
+    public int recordAnswer(Long userId, Long questionId, boolean correct, long nowMillis) {
+        return schedules.computeIfAbsent(userId, id -> new UserSchedule()).record(questionId, correct, nowMillis);
+    }
+
+    @Override
+    public List<ReviewItem> findDue(Long userId, long nowMillis, long offset, int limit) {
+        UserSchedule schedule = schedules.get(userId);
+        return schedule == null ? List.of() : schedule.findDue(nowMillis, offset, limit);
+    }
+
+    @Override
+    public long countDue(Long userId, long nowMillis) {
+        UserSchedule schedule = schedules.get(userId);
+        return schedule == null ? 0 : schedule.countDue(nowMillis);
+    }
+
+    @Override
+    public void remove(Long userId, Long questionId) {
+        UserSchedule schedule = schedules.get(userId);
+        if (schedule != null) {
+            schedule.remove(questionId);
+        }
+    }
+
+    @Override
+    public int seed(Long userId, List<ReviewItem> items) {
+        return schedules.computeIfAbsent(userId, id -> new UserSchedule()).seed(items);
+    }
+
+    @Override
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    @Override
+    public void markBackfilled() {
+        backfilled = true;
+    }
+
+    @Override
+    public void removeAll(Long userId) {
+        schedules.remove(userId);
+    }
+
+    private static final class UserSchedule {
+
+        private final TreeSet<ReviewItem> byDueAt = new TreeSet<>(
+            Comparator.comparingLong(ReviewItem::dueAt).thenComparing(ReviewItem::questionId));
+        private final Map<Long, ReviewItem> byQuestion = new HashMap<>();
+
+        synchronized int record(Long questionId, boolean correct, long nowMillis) {
+            ReviewItem current = byQuestion.get(questionId);
+            int nextStep = 0;
+            if (correct) {
+                if (current == null) {
+                    return NOT_SCHEDULED;
+                }
+                if (current.dueAt() > nowMillis) {
+                    return current.step();
+                }
+                nextStep = current.step() + 1;
+                if (nextStep >= INTERVALS.size()) {
+                    remove(questionId);
+                    return GRADUATED;
+                }
+            }
+            remove(questionId);
+            ReviewItem item = new ReviewItem(questionId, nextStep, nowMillis + INTERVALS.get(nextStep).toMillis());
+            byQuestion.put(questionId, item);
+            byDueAt.add(item);
+            return nextStep;
+        }
+
+        synchronized int seed(List<ReviewItem> items) {
+            int seeded = 0;
+            for (ReviewItem item : items) {
+                if (byQuestion.containsKey(item.questionId())) {
+                    continue;
+                }
+                ReviewItem first = new ReviewItem(item.questionId(), 0, item.dueAt());
+                byQuestion.put(item.questionId(), first);
+                byDueAt.add(first);
+                seeded++;
+            }
+            return seeded;
+        }
+
+        synchronized List<ReviewItem> findDue(long nowMillis, long offset, int limit) {
+            List<ReviewItem> due = new ArrayList<>(limit);
+            long skipped = 0;
+            for (ReviewItem item : byDueAt) {
+                if (item.dueAt() > nowMillis || due.size() == limit) {
+                    break;
+                }
+                if (skipped++ >= offset) {
+                    due.add(item);
+                }
+            }
+            return due;
+        }
+
+        synchronized long countDue(long nowMillis) {
+            return byDueAt.headSet(new ReviewItem(Long.MAX_VALUE, 0, nowMillis), true).size();
+        }
+
+        synchronized void remove(Long questionId) {
+            ReviewItem removed = byQuestion.remove(questionId);
+            if (removed != null) {
+                byDueAt.remove(removed);
+            }
+        }
+    }
+}
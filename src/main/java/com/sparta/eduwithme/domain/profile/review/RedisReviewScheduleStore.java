@@ -0,0 +1,147 @@
+package com.sparta.eduwithme.domain.profile.review;
+
+import com.sparta.eduwithme.util.RedisUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * review:due:{userId} => Sorted Set (member = 문제 id, score = 복습 예정 시각 epoch millis)
+ * review:step:{userId} => Hash (문제 id -> 현재 단계)
+ * "지금 복습할 문제" 는 ZRANGEBYSCORE -inf now 한 번 (O(log n + m)).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "profile.review.store", havingValue = "redis", matchIfMissing = true)
+public class RedisReviewScheduleStore implements ReviewScheduleStore {
+
+    private static final String DUE_PREFIX = "review:due:";
+    private static final String STEP_PREFIX = "review:step:";
+    private static final String BACKFILLED_KEY = "review:backfilled";
+
+    // ARGV => 문제 id, 정답 여부(1/0), now, 단계별 간격(ms)...
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+        "local step = redis.call('HGET', KEYS[2], ARGV[1]) " +
+        "local now = tonumber(ARGV[3]) " +
+        "local stepCount = #ARGV - 3 " +
+        "local nextStep = 0 " +
+        "if ARGV[2] == '1' then " +
+        "  if not step then return " + NOT_SCHEDULED + " end " +
+        "  local due = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+        "  if due and tonumber(due) > now then return tonumber(step) end " +
+        "  nextStep = tonumber(step) + 1 " +
+        "  if nextStep >= stepCount then " +
+        "    redis.call('ZREM', KEYS[1], ARGV[1]) " +
+        "    redis.call('HDEL', KEYS[2], ARGV[1]) " +
+        "    return " + GRADUATED + " " +
+        "  end " +
+        "end " +
+        "redis.call('HSET', KEYS[2], ARGV[1], nextStep) " +
+        "redis.call('ZADD', KEYS[1], now + tonumber(ARGV[4 + nextStep]), ARGV[1]) " +
+        "return nextStep",
+        Long.class
+    );
+
+    // ARGV => (문제 id, 복습 예정 시각) 반복, 단계가 없는 문제만 0 단계로 등록
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+        "local seeded = 0 " +
+        "for i = 1, #ARGV, 2 do " +
+        "  if redis.call('HSETNX', KEYS[2], ARGV[i], 0) == 1 then " +
+        "    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) " +
+        "    seeded = seeded + 1 " +
+        "  end " +
+        "end " +
+        "return seeded",
+        Long.class
+    );
+
+    private static final String[] INTERVAL_ARGS = INTERVALS.stream()
+        .map(interval -> String.valueOf(interval.toMillis()))
+        .toArray(String[]::new);
+
+    private final RedisUtil redisUtil;
+
+    @Override
+    public int recordAnswer(Long userId, Long questionId, boolean correct, long nowMillis) {
+        String[] args = new String[3 + INTERVAL_ARGS.length];
+        args[0] = String.valueOf(questionId);
+        args[1] = correct ? "1" : "0";
+        args[2] = String.valueOf(nowMillis);
+        System.arraycopy(INTERVAL_ARGS, 0, args, 3, INTERVAL_ARGS.length);
+
+        Long result = redisUtil.executeScript(RECORD_SCRIPT, List.of(DUE_PREFIX + userId, STEP_PREFIX + userId), args);
+        return result == null ? NOT_SCHEDULED : result.intValue();
+    }
+
+    @Override
+    public List<ReviewItem> findDue(Long userId, long nowMillis, long offset, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> due =
+            redisUtil.rangeSortedSetByScore(DUE_PREFIX + userId, Double.NEGATIVE_INFINITY, nowMillis, offset, limit);
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> questionIds = due.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+        List<String> steps = redisUtil.getHashValues(STEP_PREFIX + userId, questionIds);
+
+        List<ReviewItem> items = new ArrayList<>(questionIds.size());
+        int index = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : due) {
+            String step = steps.get(index++);
+            items.add(new ReviewItem(
+                Long.valueOf(tuple.getValue()),
+                step == null ? 0 : Integer.parseInt(step),
+                tuple.getScore().longValue()
+            ));
+        }
+        return items;
+    }
+
+    @Override
+    public long countDue(Long userId, long nowMillis) {
+        Long count = redisUtil.countSortedSetByScore(DUE_PREFIX + userId, Double.NEGATIVE_INFINITY, nowMillis);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void remove(Long userId, Long questionId) {
+        redisUtil.removeSortedSetMember(DUE_PREFIX + userId, String.valueOf(questionId));
+        redisUtil.deleteHashField(STEP_PREFIX + userId, String.valueOf(questionId));
+    }
+
+    @Override
+    public int seed(Long userId, List<ReviewItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        String[] args = new String[items.size() * 2];
+        int index = 0;
+        for (ReviewItem item : items) {
+            args[index++] = String.valueOf(item.questionId());
+            args[index++] = String.valueOf(item.dueAt());
+        }
+        Long seeded = redisUtil.executeScript(SEED_SCRIPT, List.of(DUE_PREFIX + userId, STEP_PREFIX + userId), args);
+        return seeded == null ? 0 : seeded.intValue();
+    }
+
+    @Override
+    public boolean isBackfilled() {
+        return redisUtil.getData(BACKFILLED_KEY) != null;
+    }
+
+    @Override
+    public void markBackfilled() {
+        redisUtil.setData(BACKFILLED_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
+    @Override
+    public void removeAll(Long userId) {
+        redisUtil.deleteData(List.of(DUE_PREFIX + userId, STEP_PREFIX + userId));
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.eduwithme.domain.profile.review;
+
+import com.sparta.eduwithme.domain.profile.ProfileRebuildExecutor;
+import com.sparta.eduwithme.domain.profile.dto.ReviewSeedDto;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복습 일정 도입 전에 쌓인 오답(learning_status WRONG)을 일정에 채운다.
+ * 한 번 끝나면 저장소에 완료 표시를 남기고, 시작할 때 표시가 없으면 재구성 스레드에서 id keyset 으로 훑는다.
+ * 마지막으로 틀린 시각 + 첫 단계 간격을 예정 시각으로 쓰고, 이미 일정에 있는 문제(백필 중 채점된 것 포함)는 건드리지 않는다.
+ */
+@Slf4j(topic = "ReviewScheduleBackfill")
+@Component
+@RequiredArgsConstructor
+public class ReviewScheduleBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ReviewScheduleStore reviewScheduleStore;
+    private final LearningStatusRepository learningStatusRepository;
+    private final ProfileRebuildExecutor profileRebuildExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfNeeded() {
+        profileRebuildExecutor.submit("review schedule backfill", () -> {
+            try {
+                if (!reviewScheduleStore.isBackfilled()) {
+                    backfill();
+                }
+            } catch (DataAccessException e) {
+                log.error("review schedule backfill check failed", e);
+            }
+        });
+    }
+
+    public void backfill() {
+        long startedAt = System.currentTimeMillis();
+        long firstInterval = ReviewScheduleStore.INTERVALS.get(0).toMillis();
+        long lastId = 0L;
+        long scanned = 0;
+        long seeded = 0;
+        while (true) {
+            List<ReviewSeedDto> batch = learningStatusRepository.findReviewSeedsAfter(
+                QuestionType.WRONG, lastId, PageRequest.of(0, BATCH_SIZE));
+
+            Map<Long, List<ReviewScheduleStore.ReviewItem>> byUser = new LinkedHashMap<>();
+            for (ReviewSeedDto row : batch) {
+                long wrongAt = row.getUpdatedAt() == null
+                    ? startedAt
+                    : row.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                byUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>())
+                    .add(new ReviewScheduleStore.ReviewItem(row.getQuestionId(), 0, wrongAt + firstInterval));
+            }
+            for (Map.Entry<Long, List<ReviewScheduleStore.ReviewItem>> entry : byUser.entrySet()) {
+                seeded += reviewScheduleStore.seed(entry.getKey(), entry.getValue());
+            }
+
+            scanned += batch.size();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        reviewScheduleStore.markBackfilled();
+        log.info("review schedule backfilled: {} wrong answers scanned, {} scheduled in {}ms",
+            scanned, seeded, System.currentTimeMillis() - startedAt);
+    }
+}
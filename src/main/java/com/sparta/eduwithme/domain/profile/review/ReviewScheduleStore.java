@@ -0,0 +1,48 @@
+package com.sparta.eduwithme.domain.profile.review;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 오답 복습 일정 저장소 (사용자별로 복습 예정 시각 순으로 정렬된 색인).
+ * 틀린 문제는 첫 단계 간격으로 등록되고, 복습 시점이 지난 뒤 맞히면 다음 단계 간격으로 미뤄진다.
+ * 마지막 단계까지 맞히면 일정에서 빠지고, 중간에 다시 틀리면 첫 단계로 돌아간다.
+ */
+public interface ReviewScheduleStore {
+
+    // 단계별 복습 간격
+    List<Duration> INTERVALS = List.of(
+        Duration.ofMinutes(10),
+        Duration.ofDays(1),
+        Duration.ofDays(3),
+        Duration.ofDays(7),
+        Duration.ofDays(21)
+    );
+
+    int NOT_SCHEDULED = -1;
+    int GRADUATED = -2;
+
+    // 채점 결과 반영 => 반영 후 단계, 일정에 없던 문제를 맞히면 NOT_SCHEDULED, 마지막 단계를 마치면 GRADUATED
+    int recordAnswer(Long userId, Long questionId, boolean correct, long nowMillis);
+
+    // 복습 예정 시각이 nowMillis 이전인 항목을 예정 시각 순으로 offset 부터 limit 개
+    List<ReviewItem> findDue(Long userId, long nowMillis, long offset, int limit);
+
+    long countDue(Long userId, long nowMillis);
+
+    void remove(Long userId, Long questionId);
+
+    // 일정에 없는 문제만 첫 단계로 등록 (이미 있으면 그대로 둔다) => 새로 등록한 개수
+    int seed(Long userId, List<ReviewItem> items);
+
+    // 기존 오답 백필 완료 표시
+    boolean isBackfilled();
+
+    void markBackfilled();
+
+    // 회원 탈퇴 시
+    void removeAll(Long userId);
+
+    record ReviewItem(Long questionId, int step, long dueAt) {
+    }
+}
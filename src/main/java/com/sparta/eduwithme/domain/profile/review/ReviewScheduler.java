@@ -0,0 +1,28 @@
+package com.sparta.eduwithme.domain.profile.review;
+
+import com.sparta.eduwithme.domain.question.event.AnswerGradedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 채점 결과로 오답 복습 일정을 갱신 (일정 저장소 장애가 답안 제출을 실패시키지 않도록 예외는 기록만)
+@Slf4j(topic = "ReviewScheduler")
+@Component
+@RequiredArgsConstructor
+public class ReviewScheduler {
+
+    private final ReviewScheduleStore reviewScheduleStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerGraded(AnswerGradedEvent event) {
+        try {
+            reviewScheduleStore.recordAnswer(event.getUserId(), event.getQuestionId(), event.isCorrect(), System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("review schedule update failed, userId={}, questionId={}: {}",
+                event.getUserId(), event.getQuestionId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.domain.question.dto.LearningStatusChangeDto;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import com.sparta.eduwithme.domain.question.event.LearningStatusAppliedEvent;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 답안 제출로 생기는 learning_status 변경을 모아서 쓰는 write-behind writer.
+ * 요청 스레드는 bounded queue 에 넣기만 하고, 백그라운드 스레드가 모인 변경을 한 트랜잭션의 JDBC batch upsert 로 반영한다.
+ * 비활성화 상태이거나 queue 가 가득 차면 요청 스레드에서 바로(동기) 반영한다.
+ * 종료 시에는 새 변경을 동기 처리로 돌리고 queue 에 남은 변경을 모두 반영한 뒤 멈춘다.
+ * 일시 장애(연결 / 트랜잭션 시작 실패, 교착)는 묶음째 backoff 로 다시 시도하고, 특정 행 때문에 실패하면 한 건씩 반영한다.
+ * 끝내 반영하지 못한 변경은 한 건마다 ERROR 로그와 dropped 카운터로 남긴다 (학생에게는 이미 제출 완료로 응답했으므로).
+ * 어느 경로든 반영한 트랜잭션 안에서 LearningStatusAppliedEvent 를 발행한다.
+ */
+@Slf4j(topic = "AnswerSubmissionWriter")
+@Component
+public class AnswerSubmissionWriter implements SmartLifecycle {
+
+    // 웹 서버가 요청을 더 받지 않게 된 뒤에 멈추도록 웹 서버 lifecycle 보다 낮은 phase
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final LearningStatusJdbcRepository learningStatusJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long shutdownTimeoutMillis;
+    private final int retryMaxAttempts;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<LearningStatusChangeDto> queue;
+
+    private final Timer flushTimer;
+    private final Counter syncFallbackCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AnswerSubmissionWriter(LearningStatusJdbcRepository learningStatusJdbcRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${question.submission.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${question.submission.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${question.submission.write-behind.batch-size:500}") int batchSize,
+                                  @Value("${question.submission.write-behind.flush-interval-millis:200}") long flushIntervalMillis,
+                                  @Value("${question.submission.write-behind.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds,
+                                  @Value("${question.submission.write-behind.retry-max-attempts:5}") int retryMaxAttempts,
+                                  @Value("${question.submission.write-behind.retry-backoff-millis:200}") long retryBackoffMillis) {
+        this.learningStatusJdbcRepository = learningStatusJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.shutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds);
+        this.retryMaxAttempts = retryMaxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.flushTimer = Timer.builder("answer.write-behind.flush").register(meterRegistry);
+        this.syncFallbackCounter = Counter.builder("answer.write-behind.sync-fallback").register(meterRegistry);
+        this.droppedCounter = Counter.builder("answer.write-behind.dropped").register(meterRegistry);
+        Gauge.builder("answer.write-behind.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    // 동기 반영 시 포인트를 새로 얻었는지, queue 에 넣었으면 null
+    public Boolean submit(LearningStatusChangeDto change) {
+        if (running && queue.offer(change)) {
+            return null;
+        }
+        if (enabled) {
+            syncFallbackCounter.increment();
+        }
+        LearningStatusOutcomeDto outcome = learningStatusJdbcRepository.upsert(change);
+        eventPublisher.publishEvent(new LearningStatusAppliedEvent(List.of(outcome)));
+        return outcome.isNewlyEarned();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runLoop, "answer-write-behind");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // writer 스레드가 시간 안에 끝내지 못했거나 마지막 순간에 들어온 변경
+        List<LearningStatusChangeDto> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        log.info("answer write-behind stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runLoop() {
+        List<LearningStatusChangeDto> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LearningStatusChangeDto first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("answer write-behind flush failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<LearningStatusChangeDto> batch) {
+        flushTimer.record(() -> {
+            try {
+                applyWithRetry(batch);
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    // 재시도를 모두 실패한 일시 장애 => 한 건씩 다시 해도 같으므로 묶음째 기록
+                    batch.forEach(change -> drop(change, e));
+                    return;
+                }
+                // 한 건 때문에 batch 전체를 잃지 않도록 한 건씩 다시 반영 (ex. 그 사이 탈퇴한 유저)
+                log.warn("answer write-behind batch failed, retrying one by one: {}", e.getMessage());
+                batch.forEach(this::flushOne);
+            }
+        });
+    }
+
+    private void flushOne(LearningStatusChangeDto change) {
+        try {
+            applyWithRetry(List.of(change));
+        } catch (RuntimeException e) {
+            drop(change, e);
+        }
+    }
+
+    // 일시 장애면 지수 backoff 로 retryMaxAttempts 번까지, 그 외 예외는 바로 던진다
+    private void applyWithRetry(List<LearningStatusChangeDto> changes) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(changes));
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e) || attempt >= retryMaxAttempts) {
+                    throw e;
+                }
+                long delayMillis = retryBackoffMillis << (attempt - 1);
+                log.warn("answer write-behind flush failed (attempt {}), retry in {}ms: {}", attempt, delayMillis, e.getMessage());
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 연결 / 트랜잭션 시작 실패, 교착, 잠금 대기 시간 초과처럼 다시 시도하면 될 수 있는 예외
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException
+            || e instanceof TransactionException;
+    }
+
+    private void drop(LearningStatusChangeDto change, RuntimeException cause) {
+        droppedCounter.increment();
+        log.error("learning status change dropped: questionId={}, userId={}, type={}",
+            change.getQuestionId(), change.getUserId(), change.getQuestionType(), cause);
+    }
+
+    private void apply(List<LearningStatusChangeDto> changes) {
+        List<LearningStatusOutcomeDto> outcomes = learningStatusJdbcRepository.applyChanges(changes);
+        eventPublisher.publishEvent(new LearningStatusAppliedEvent(outcomes));
+    }
+}
@@ -0,0 +1,97 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.common.cache.LocalCache;
+import com.sparta.eduwithme.common.response.SerializedResponse;
+import com.sparta.eduwithme.domain.question.dto.QuestionDetailDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionResponseDto;
+import com.sparta.eduwithme.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 별 문제 목록(페이지)과 문제 상세를 보관하는 캐시.
+ * 같은 방에 동시에 들어온 요청은 한 번만 DB 를 조회한다.
+ * 문제가 생성/수정/삭제되거나 방이 삭제되면 해당 방의 항목을 모두 제거한다.
+ * 문제별 정답자 수는 새 정답자가 생길 때 제거하고, write-behind 로 반영되는 경우를 위해 TTL 을 짧게 둔다.
+ * 문제 상세 응답은 직렬화된 JSON 바이트와 ETag 로도 보관해, 같은 문제를 반복 조회할 때 DTO 생성/직렬화를 건너뛴다.
+ * 추천에 쓰는 방 문제 목록(QuestionCatalog)도 같은 시점에 제거한다.
+ */
+@Component
+public class QuestionCache {
+
+    private final LocalCache<ListKey, Page<QuestionResponseDto>> listCache;
+    private final LocalCache<DetailKey, QuestionDetailDto> detailCache;
+    private final LocalCache<DetailKey, SerializedResponse> detailResponseCache;
+    private final LocalCache<Long, Long> solverCountCache;
+    private final LocalCache<Long, QuestionCatalog> catalogCache;
+
+    public QuestionCache(MeterRegistry meterRegistry,
+                         @Value("${question.cache.list.max-size:2000}") int listMaxSize,
+                         @Value("${question.cache.detail.max-size:10000}") int detailMaxSize,
+                         @Value("${question.cache.ttl-seconds:600}") long ttlSeconds,
+                         @Value("${question.cache.solver-count.max-size:10000}") int solverCountMaxSize,
+                         @Value("${question.cache.solver-count.ttl-seconds:30}") long solverCountTtlSeconds,
+                         @Value("${question.cache.catalog.max-size:1000}") int catalogMaxSize) {
+        this.listCache = new LocalCache<>("question.list", listMaxSize, Duration.ofSeconds(ttlSeconds));
+        this.detailCache = new LocalCache<>("question.detail", detailMaxSize, Duration.ofSeconds(ttlSeconds));
+        this.detailResponseCache = new LocalCache<>("question.detail-response", detailMaxSize, Duration.ofSeconds(ttlSeconds));
+        this.solverCountCache = new LocalCache<>("question.solver-count", solverCountMaxSize, Duration.ofSeconds(solverCountTtlSeconds));
+        this.catalogCache = new LocalCache<>("question.catalog", catalogMaxSize, Duration.ofSeconds(ttlSeconds));
+        this.listCache.bindTo(meterRegistry);
+        this.detailCache.bindTo(meterRegistry);
+        this.detailResponseCache.bindTo(meterRegistry);
+        this.solverCountCache.bindTo(meterRegistry);
+        this.catalogCache.bindTo(meterRegistry);
+    }
+
+    public Page<QuestionResponseDto> getPage(Long roomId, Pageable pageable, Supplier<Page<QuestionResponseDto>> loader) {
+        ListKey key = new ListKey(roomId, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        return listCache.get(key, k -> loader.get());
+    }
+
+    public QuestionDetailDto getDetail(Long roomId, Long questionId, Supplier<QuestionDetailDto> loader) {
+        return detailCache.get(new DetailKey(roomId, questionId), k -> loader.get());
+    }
+
+    public SerializedResponse getDetailResponse(Long roomId, Long questionId, Supplier<SerializedResponse> loader) {
+        return detailResponseCache.get(new DetailKey(roomId, questionId), k -> loader.get());
+    }
+
+    // 추천용 방 문제 목록 (QuestionRecommender)
+    public QuestionCatalog getCatalog(Long roomId, Supplier<QuestionCatalog> loader) {
+        return catalogCache.get(roomId, k -> loader.get());
+    }
+
+    public Long getSolverCount(Long questionId, Supplier<Long> loader) {
+        return solverCountCache.get(questionId, k -> loader.get());
+    }
+
+    public void evictSolverCount(Long questionId) {
+        solverCountCache.invalidate(questionId);
+        TransactionUtil.afterCommit(() -> solverCountCache.invalidate(questionId));
+    }
+
+    // 즉시 제거 + 커밋 이후 한 번 더 제거 (커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우 방지)
+    public void evictRoom(Long roomId) {
+        evictRoomNow(roomId);
+        TransactionUtil.afterCommit(() -> evictRoomNow(roomId));
+    }
+
+    private void evictRoomNow(Long roomId) {
+        listCache.invalidateIf(key -> key.roomId().equals(roomId));
+        detailCache.invalidateIf(key -> key.roomId().equals(roomId));
+        detailResponseCache.invalidateIf(key -> key.roomId().equals(roomId));
+        catalogCache.invalidate(roomId);
+    }
+
+    private record ListKey(Long roomId, int page, int size, String sort) {
+    }
+
+    private record DetailKey(Long roomId, Long questionId) {
+    }
+}
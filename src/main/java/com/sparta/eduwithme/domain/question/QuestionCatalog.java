@@ -0,0 +1,98 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.domain.question.dto.QuestionCatalogSourceDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionRecommendationDto;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 방의 문제를 orderInRoom 을 인덱스로 하는 배열과 bitset 으로 담은 읽기 전용 스냅샷.
+ * 카테고리/난이도별 bitset 을 미리 만들어 두어 추천 시 SQL 없이 bitset 연산만으로 후보를 고른다.
+ * (삭제 등으로 비어 있는 순서 번호는 present 에서 빠진다)
+ */
+public class QuestionCatalog {
+
+    private final long[] questionIds;
+    private final String[] titles;
+    private final Category[] categories;
+    private final Difficulty[] difficulties;
+    private final long[] points;
+    private final BitSet present = new BitSet();
+    private final BitSet[] byCategory = newBitSets(Category.values().length);
+    private final BitSet[] byDifficulty = newBitSets(Difficulty.values().length);
+    private final Map<Long, Integer> orderById = new HashMap<>();
+
+    private QuestionCatalog(int size) {
+        this.questionIds = new long[size];
+        this.titles = new String[size];
+        this.categories = new Category[size];
+        this.difficulties = new Difficulty[size];
+        this.points = new long[size];
+    }
+
+    public static QuestionCatalog of(List<QuestionCatalogSourceDto> sources) {
+        int size = 0;
+        for (QuestionCatalogSourceDto source : sources) {
+            size = Math.max(size, Math.toIntExact(source.getOrderInRoom()) + 1);
+        }
+
+        QuestionCatalog catalog = new QuestionCatalog(size);
+        for (QuestionCatalogSourceDto source : sources) {
+            int order = Math.toIntExact(source.getOrderInRoom());
+            catalog.questionIds[order] = source.getQuestionId();
+            catalog.titles[order] = source.getTitle();
+            catalog.categories[order] = source.getCategory();
+            catalog.difficulties[order] = source.getDifficulty();
+            catalog.points[order] = source.getPoint() == null ? 0L : source.getPoint();
+            catalog.present.set(order);
+            catalog.byCategory[source.getCategory().ordinal()].set(order);
+            if (source.getDifficulty() != null) {
+                catalog.byDifficulty[source.getDifficulty().ordinal()].set(order);
+            }
+            catalog.orderById.put(source.getQuestionId(), order);
+        }
+        return catalog;
+    }
+
+    // 문제 id => orderInRoom (목록에 없으면 -1)
+    public int orderOf(Long questionId) {
+        return orderById.getOrDefault(questionId, -1);
+    }
+
+    public BitSet present() {
+        return (BitSet) present.clone();
+    }
+
+    public BitSet category(Category category) {
+        return byCategory[category.ordinal()];
+    }
+
+    public BitSet difficulty(Difficulty difficulty) {
+        return byDifficulty[difficulty.ordinal()];
+    }
+
+    public QuestionRecommendationDto toRecommendation(int order, QuestionRecommendationDto.Reason reason) {
+        Difficulty difficulty = difficulties[order];
+        return new QuestionRecommendationDto(
+            questionIds[order],
+            (long) order,
+            titles[order],
+            categories[order].getCategoryName(),
+            difficulty == null ? null : difficulty.getLevel(),
+            points[order],
+            reason
+        );
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
@@ -1,21 +1,29 @@
 package com.sparta.eduwithme.domain.question;
 
+import com.sparta.eduwithme.common.response.CursorPage;
 import com.sparta.eduwithme.common.response.DataCommonResponse;
+import com.sparta.eduwithme.common.response.SerializedResponse;
 import com.sparta.eduwithme.common.response.StatusCommonResponse;
 import com.sparta.eduwithme.domain.question.dto.*;
-import com.sparta.eduwithme.domain.user.dto.UserDto;
 import com.sparta.eduwithme.security.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -24,8 +32,10 @@ import java.util.List;
 public class QuestionController {
 
     private static final int PAGE_SIZE = 5;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final QuestionService questionService;
+    private final QuestionTransferService questionTransferService;
 
     //Question 생성
     @Operation(summary = "createQuestion", description = "질문 생성 기능입니다.")
@@ -37,6 +47,35 @@ public class QuestionController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    //Question 일괄 등록 (JSON Lines / CSV)
+    @Operation(summary = "importQuestions", description = "문제 일괄 등록 기능입니다. (application/x-ndjson, text/csv)")
+    @PostMapping(value = "/rooms/{roomId}/question/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<DataCommonResponse<QuestionImportResultDto>> importQuestions(@PathVariable Long roomId,
+                                                                                       HttpServletRequest request,
+                                                                                       @AuthenticationPrincipal UserDetailsImpl userDetails) throws IOException {
+        QuestionFileFormat format = QuestionFileFormat.fromContentType(request.getContentType());
+        QuestionImportResultDto result = questionTransferService.importQuestions(userDetails.getUser(), roomId, format, request.getInputStream());
+        DataCommonResponse<QuestionImportResultDto> response = new DataCommonResponse<>(201, "문제 일괄 등록이 완료 되었습니다.", result);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    //Question 내보내기
+    @Operation(summary = "exportQuestions", description = "문제 내보내기 기능입니다. (format = jsonl, csv)")
+    @GetMapping("/rooms/{roomId}/question/export")
+    public ResponseEntity<StreamingResponseBody> exportQuestions(@PathVariable Long roomId,
+                                                                 @RequestParam(value = "format", defaultValue = "jsonl") String format,
+                                                                 @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        QuestionFileFormat fileFormat = QuestionFileFormat.fromExtension(format);
+        // 스트리밍 시작 전에 권한 확인 (응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없음)
+        questionTransferService.checkRoomManager(userDetails.getUser(), roomId);
+
+        StreamingResponseBody body = outputStream -> questionTransferService.exportQuestions(roomId, fileFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(fileFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=room-" + roomId + "-questions." + fileFormat.getExtension())
+                .body(body);
+    }
+
     //Question 전체 조회
     @Operation(summary = "getAllQuestion", description = "질문 전체 조회 기능입니다.")
     @GetMapping("/rooms/{roomId}/question")
@@ -49,6 +88,18 @@ public class QuestionController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    //Question 전체 조회 (cursor 페이지)
+    @Operation(summary = "getAllQuestionByCursor", description = "질문 전체 조회 기능입니다. (응답의 nextCursor 로 다음 페이지 조회)")
+    @GetMapping("/rooms/{roomId}/question/cursor")
+    public ResponseEntity<DataCommonResponse<CursorPage<QuestionResponseDto>>> getAllQuestionByCursor(@PathVariable Long roomId,
+                                                                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                                      @RequestParam(value = "size", defaultValue = "5") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<QuestionResponseDto> responseDtoPage = questionService.getAllQuestionByCursor(roomId, cursor, pageSize);
+        DataCommonResponse<CursorPage<QuestionResponseDto>> response = new DataCommonResponse<>(200, "문제 전체 조회를 성공하였습니다.", responseDtoPage);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     //Question 제목 조회
     @Operation(summary = "searchQuestionByTitle", description = "질문 제목 검색 기능입니다.")
     @GetMapping("/search/rooms/{roomId}/question/title")
@@ -60,6 +111,27 @@ public class QuestionController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    //Question 다음 문제 추천
+    @Operation(summary = "getNextQuestion", description = "다음에 풀 문제 추천 기능입니다. (틀린 문제 우선, 푼 문제 난이도에 가까운 문제)")
+    @GetMapping("/rooms/{roomId}/question/next")
+    public ResponseEntity<DataCommonResponse<QuestionRecommendationDto>> getNextQuestion(@PathVariable Long roomId,
+                                                                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        QuestionRecommendationDto recommendation = questionService.getNextQuestion(roomId, userDetails.getUser());
+        String message = recommendation == null ? "추천할 문제가 없습니다. 모든 문제를 풀었습니다." : "다음 문제 추천을 성공하였습니다.";
+        DataCommonResponse<QuestionRecommendationDto> response = new DataCommonResponse<>(200, message, recommendation);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //Question 통계 (방장)
+    @Operation(summary = "getQuestionStats", description = "방의 문제별 통계 조회 기능입니다. (제출 수, 첫 제출 정답률, 보기별 선택 수)")
+    @GetMapping("/rooms/{roomId}/question/stats")
+    public ResponseEntity<DataCommonResponse<List<QuestionStatsDto>>> getQuestionStats(@PathVariable Long roomId,
+                                                                                      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<QuestionStatsDto> stats = questionService.getQuestionStats(userDetails.getUser(), roomId);
+        DataCommonResponse<List<QuestionStatsDto>> response = new DataCommonResponse<>(200, "문제 통계 조회를 성공하였습니다.", stats);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     //Question 수정
     @Operation(summary = "updateQuestion", description = "질문 수정 기능입니다.")
     @PutMapping("/rooms/{roomId}/question/{questionId}")
@@ -84,11 +156,19 @@ public class QuestionController {
     //Question 단건 조회
     @Operation(summary = "getQuestion", description = "질문 단 건 조회 기능입니다.")
     @GetMapping("/rooms/{roomId}/question/{questionId}")
-    public ResponseEntity<DataCommonResponse<QuestionDetailDto>> getQuestion(@PathVariable Long roomId,
-                                                                             @PathVariable Long questionId) {
-        QuestionDetailDto questionDetail = questionService.getQuestionDetail(roomId, questionId);
-        DataCommonResponse<QuestionDetailDto> response = new DataCommonResponse<>(200, "문제 조회에 성공했습니다.", questionDetail);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    public ResponseEntity<byte[]> getQuestion(@PathVariable Long roomId,
+                                              @PathVariable Long questionId,
+                                              WebRequest webRequest) {
+        // 캐시된 응답 바이트를 그대로 내려주고, If-None-Match 가 같으면 본문 없이 304
+        SerializedResponse response = questionService.getQuestionDetailResponse(roomId, questionId);
+        if (webRequest.checkNotModified(response.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     //Question 답변 제출
@@ -103,12 +183,17 @@ public class QuestionController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    //Question 정답자 목록 (cursor 페이지)
+    @Operation(summary = "getSolvedStudents", description = "문제를 푼 학생 목록 조회 기능입니다. (응답의 nextCursor 로 다음 페이지 조회)")
     @GetMapping("/rooms/{roomId}/question/{questionId}/solved-students")
-    public ResponseEntity<DataCommonResponse<List<UserDto>>> getSolvedStudents(
+    public ResponseEntity<DataCommonResponse<SolvedStudentsResponseDto>> getSolvedStudents(
         @PathVariable Long roomId,
-        @PathVariable Long questionId
+        @PathVariable Long questionId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
     ) {
-        List<UserDto> solvedStudents = questionService.getSolvedStudents(roomId, questionId);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        SolvedStudentsResponseDto solvedStudents = questionService.getSolvedStudents(roomId, questionId, cursor, pageSize);
         return ResponseEntity.ok(new DataCommonResponse<>(200, "문제를 푼 학생 목록 조회 성공", solvedStudents));
     }
 
@@ -0,0 +1,37 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.domain.room.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 방 별 문제 순서 번호(orderInRoom) 발급기.
+ * rooms.question_sequence 를 한 문장으로 증가시키므로 MAX() 조회가 없고, 동시에 생성해도 번호가 겹치지 않는다.
+ * 번호 증가와 LAST_INSERT_ID 조회가 같은 커넥션에서 실행되도록 호출한 쪽 트랜잭션에 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionOrderAllocator {
+
+    private final RoomRepository roomRepository;
+
+    @Transactional
+    public long next(Long roomId) {
+        return reserve(roomId, 1);
+    }
+
+    // count 개의 연속된 번호를 예약하고 첫 번호를 반환 => [first, first + count)
+    @Transactional
+    public long reserve(Long roomId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        if (roomRepository.increaseQuestionSequence(roomId, count) == 0) {
+            throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+        }
+        return roomRepository.findLastInsertId() - count + 1;
+    }
+}
@@ -0,0 +1,186 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.common.cache.LocalCache;
+import com.sparta.eduwithme.domain.question.dto.LearningProgressDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionRecommendationDto;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.event.AnswerGradedEvent;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.BitSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 다음에 풀 문제 추천.
+ * 방 문제 목록(QuestionCatalog)과 사용자별 정답/오답 bitset(orderInRoom 인덱스)을 메모리에 두고,
+ * 틀린 문제 => 안 푼 문제 순으로, 사용자가 푼 난이도에 가깝고 오답 비율이 높은 카테고리의 문제를 고른다.
+ * bitset 은 처음 추천할 때 learning_status 에서 적재하고, 이후에는 커밋된 채점 결과로 갱신한다.
+ */
+@Component
+public class QuestionRecommender {
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final QuestionCache questionCache;
+    private final QuestionRepository questionRepository;
+    private final LearningStatusRepository learningStatusRepository;
+    private final LocalCache<ProgressKey, UserProgress> progressCache;
+
+    public QuestionRecommender(QuestionCache questionCache,
+                               QuestionRepository questionRepository,
+                               LearningStatusRepository learningStatusRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${question.recommend.progress.max-size:20000}") int progressMaxSize,
+                               @Value("${question.recommend.progress.ttl-seconds:1800}") long progressTtlSeconds) {
+        this.questionCache = questionCache;
+        this.questionRepository = questionRepository;
+        this.learningStatusRepository = learningStatusRepository;
+        this.progressCache = new LocalCache<>("question.recommend.progress", progressMaxSize, Duration.ofSeconds(progressTtlSeconds));
+        this.progressCache.bindTo(meterRegistry);
+    }
+
+    // 추천할 문제가 없으면(모두 풂) null
+    public QuestionRecommendationDto recommend(Long roomId, Long userId) {
+        QuestionCatalog catalog = catalog(roomId);
+        UserProgress progress = progressCache.get(new ProgressKey(roomId, userId), this::loadProgress);
+        BitSet solved = progress.solved();
+        BitSet wrong = progress.wrong();
+
+        BitSet unsolved = catalog.present();
+        unsolved.andNot(solved);
+
+        BitSet retry = (BitSet) wrong.clone();
+        retry.and(unsolved);
+
+        if (!retry.isEmpty()) {
+            return catalog.toRecommendation(pick(catalog, retry, solved, wrong), QuestionRecommendationDto.Reason.WRONG);
+        }
+        if (!unsolved.isEmpty()) {
+            return catalog.toRecommendation(pick(catalog, unsolved, solved, wrong), QuestionRecommendationDto.Reason.UNSOLVED);
+        }
+        return null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerGraded(AnswerGradedEvent event) {
+        // 아직 적재하지 않은 사용자는 다음 추천 때 DB 에서 적재하므로 건너뛴다
+        UserProgress progress = progressCache.getIfPresent(new ProgressKey(event.getRoomId(), event.getUserId()));
+        if (progress == null) {
+            return;
+        }
+        int order = catalog(event.getRoomId()).orderOf(event.getQuestionId());
+        if (order >= 0) {
+            progress.apply(order, event.isCorrect());
+        }
+    }
+
+    private QuestionCatalog catalog(Long roomId) {
+        return questionCache.getCatalog(roomId, () -> QuestionCatalog.of(questionRepository.findCatalogSources(roomId)));
+    }
+
+    private UserProgress loadProgress(ProgressKey key) {
+        UserProgress progress = new UserProgress();
+        for (LearningProgressDto status : learningStatusRepository.findProgressByUserAndRoom(key.userId(), key.roomId())) {
+            progress.apply(Math.toIntExact(status.getOrderInRoom()), status.getQuestionType() == QuestionType.SOLVE);
+        }
+        return progress;
+    }
+
+    // 목표 난이도에서 가까운 순(같은 거리면 어려운 쪽 먼저)으로 후보를 좁히고, 그 안에서 오답 비율이 높은 카테고리의 가장 앞 문제
+    private int pick(QuestionCatalog catalog, BitSet candidates, BitSet solved, BitSet wrong) {
+        int target = targetDifficulty(catalog, solved);
+        for (int distance = 0; distance < DIFFICULTIES.length; distance++) {
+            BitSet harder = atLevel(catalog, candidates, target + distance);
+            if (harder != null) {
+                return pickByCategory(catalog, harder, solved, wrong);
+            }
+            BitSet easier = distance == 0 ? null : atLevel(catalog, candidates, target - distance);
+            if (easier != null) {
+                return pickByCategory(catalog, easier, solved, wrong);
+            }
+        }
+        // 난이도가 비어 있는 문제만 남은 경우
+        return pickByCategory(catalog, candidates, solved, wrong);
+    }
+
+    // 해당 난이도의 후보 (범위를 벗어나거나 후보가 없으면 null)
+    private BitSet atLevel(QuestionCatalog catalog, BitSet candidates, int level) {
+        if (level < 0 || level >= DIFFICULTIES.length) {
+            return null;
+        }
+        BitSet atLevel = (BitSet) candidates.clone();
+        atLevel.and(catalog.difficulty(DIFFICULTIES[level]));
+        return atLevel.isEmpty() ? null : atLevel;
+    }
+
+    private int pickByCategory(QuestionCatalog catalog, BitSet candidates, BitSet solved, BitSet wrong) {
+        int best = -1;
+        double bestWeight = -1;
+        for (Category category : Category.values()) {
+            BitSet inCategory = catalog.category(category);
+            if (!inCategory.intersects(candidates)) {
+                continue;
+            }
+            double weight = (double) (countIn(wrong, inCategory) + 1) / (countIn(solved, inCategory) + 1);
+            if (weight > bestWeight) {
+                BitSet chosen = (BitSet) candidates.clone();
+                chosen.and(inCategory);
+                best = chosen.nextSetBit(0);
+                bestWeight = weight;
+            }
+        }
+        return best >= 0 ? best : candidates.nextSetBit(0);
+    }
+
+    // 푼 문제 난이도의 평균 (푼 문제가 없으면 가장 쉬운 난이도)
+    private int targetDifficulty(QuestionCatalog catalog, BitSet solved) {
+        long count = 0;
+        long sum = 0;
+        for (Difficulty difficulty : DIFFICULTIES) {
+            int solvedAtLevel = countIn(solved, catalog.difficulty(difficulty));
+            count += solvedAtLevel;
+            sum += (long) solvedAtLevel * difficulty.ordinal();
+        }
+        return count == 0 ? 0 : Math.round((float) sum / count);
+    }
+
+    private int countIn(BitSet bits, BitSet mask) {
+        BitSet intersection = (BitSet) bits.clone();
+        intersection.and(mask);
+        return intersection.cardinality();
+    }
+
+    private record ProgressKey(Long roomId, Long userId) {
+    }
+
+    // SOLVE 는 되돌아가지 않는다 (learning_status upsert 와 같은 규칙)
+    private static final class UserProgress {
+
+        private final BitSet solved = new BitSet();
+        private final BitSet wrong = new BitSet();
+
+        synchronized void apply(int order, boolean correct) {
+            if (correct) {
+                solved.set(order);
+                wrong.clear(order);
+            } else if (!solved.get(order)) {
+                wrong.set(order);
+            }
+        }
+
+        synchronized BitSet solved() {
+            return (BitSet) solved.clone();
+        }
+
+        synchronized BitSet wrong() {
+            return (BitSet) wrong.clone();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.domain.question.dto.QuestionSearchSourceDto;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import com.sparta.eduwithme.util.TransactionUtil;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 별 문제 제목/내용 검색용 역색인.
+ * 형태소 분석 없이 한글도 검색되도록 문자 bigram 단위로 색인하고,
+ * 검색어의 모든 bigram 을 가진 문제만 후보로 삼아 실제 포함 여부로 순위를 매긴다.
+ * 시작 시 DB 에서 전체를 다시 만들고, 이후에는 QuestionService 의 쓰기 시점에 (커밋 이후) 갱신한다.
+ */
+@Slf4j(topic = "QuestionSearchIndex")
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    // 제목 포함 > 내용 포함 > bigram 만 모두 포함
+    private static final int TITLE_MATCH = 3;
+    private static final int CONTENT_MATCH = 2;
+    private static final int GRAM_MATCH = 1;
+
+    private final QuestionRepository questionRepository;
+    private final ConcurrentHashMap<Long, RoomIndex> rooms = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            int count = 0;
+            while (true) {
+                List<QuestionSearchSourceDto> batch =
+                    questionRepository.findSearchSourcesAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (QuestionSearchSourceDto source : batch) {
+                    put(source.getRoomId(), source.getQuestionId(), source.getTitle(), source.getContent());
+                }
+                count += batch.size();
+                if (batch.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getQuestionId();
+            }
+            ready = true;
+            log.info("question search index built: {} questions in {}ms", count, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            // 준비되지 않은 동안은 QuestionService 가 DB LIKE 검색을 사용한다
+            log.error("question search index rebuild failed", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void onSaved(Long roomId, Long questionId, String title, String content) {
+        TransactionUtil.afterCommit(() -> put(roomId, questionId, title, content));
+    }
+
+    public void onDeleted(Long roomId, Long questionId) {
+        TransactionUtil.afterCommit(() -> {
+            RoomIndex roomIndex = rooms.get(roomId);
+            if (roomIndex != null) {
+                roomIndex.remove(questionId);
+            }
+        });
+    }
+
+    public void onRoomDeleted(Long roomId) {
+        TransactionUtil.afterCommit(() -> rooms.remove(roomId));
+    }
+
+    // 관련도 순으로 정렬된 문제 id 중 [offset, offset + limit) 구간
+    public List<Long> search(Long roomId, String keyword, int offset, int limit) {
+        RoomIndex roomIndex = rooms.get(roomId);
+        if (roomIndex == null) {
+            return List.of();
+        }
+        return roomIndex.search(normalize(keyword), offset, limit);
+    }
+
+    private void put(Long roomId, Long questionId, String title, String content) {
+        rooms.computeIfAbsent(roomId, id -> new RoomIndex())
+            .put(new Document(questionId, normalize(title), normalize(content)));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record Document(Long id, String title, String content) {
+
+        Set<String> grams() {
+            Set<String> grams = bigrams(title);
+            grams.addAll(bigrams(content));
+            return grams;
+        }
+    }
+
+    private record Hit(Long id, int score, int position) {
+    }
+
+    private static final class RoomIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+
+        void put(Document document) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(document.id());
+                documents.put(document.id(), document);
+                for (String gram : document.grams()) {
+                    postings.computeIfAbsent(gram, k -> new HashSet<>()).add(document.id());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long questionId) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(questionId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeInternal(Long questionId) {
+            Document previous = documents.remove(questionId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : previous.grams()) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(questionId);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        List<Long> search(String query, int offset, int limit) {
+            List<Hit> hits = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                if (query.length() < 2) {
+                    // 한 글자 검색어는 bigram 을 만들 수 없으므로 방 안의 문제를 직접 훑는다
+                    for (Document document : documents.values()) {
+                        Hit hit = score(document, query, false);
+                        if (hit != null) {
+                            hits.add(hit);
+                        }
+                    }
+                } else {
+                    for (Long id : candidates(bigrams(query))) {
+                        hits.add(score(documents.get(id), query, true));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparingInt(Hit::position)
+                .thenComparing(Hit::id));
+            if (offset >= hits.size()) {
+                return List.of();
+            }
+            return hits.subList(offset, Math.min(hits.size(), offset + limit)).stream()
+                .map(Hit::id)
+                .toList();
+        }
+
+        // 가장 짧은 posting 부터 교집합
+        private Set<Long> candidates(Set<String> queryGrams) {
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Set.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<Long> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+
+        private Hit score(Document document, String query, boolean allGramsPresent) {
+            int titlePosition = document.title().indexOf(query);
+            if (titlePosition >= 0) {
+                return new Hit(document.id(), TITLE_MATCH, titlePosition);
+            }
+            int contentPosition = document.content().indexOf(query);
+            if (contentPosition >= 0) {
+                return new Hit(document.id(), CONTENT_MATCH, contentPosition);
+            }
+            return allGramsPresent ? new Hit(document.id(), GRAM_MATCH, Integer.MAX_VALUE) : null;
+        }
+    }
+}
@@ -2,18 +2,31 @@ package com.sparta.eduwithme.domain.question;
 
 import com.sparta.eduwithme.common.exception.CustomException;
 import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.eduwithme.common.response.CursorPage;
+import com.sparta.eduwithme.common.response.DataCommonResponse;
+import com.sparta.eduwithme.common.response.SerializedResponse;
 import com.sparta.eduwithme.domain.question.dto.*;
 import com.sparta.eduwithme.domain.question.entity.*;
+import com.sparta.eduwithme.domain.question.event.AnswerGradedEvent;
 import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
 import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import com.sparta.eduwithme.domain.question.repository.QuestionStatsRepository;
 import com.sparta.eduwithme.domain.room.RoomService;
 import com.sparta.eduwithme.domain.room.entity.Room;
-import com.sparta.eduwithme.domain.user.dto.UserDto;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.domain.user.event.UserTotalsStaleEvent;
+import com.sparta.eduwithme.util.CursorUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.vane.badwordfiltering.BadWordFiltering;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,8 +34,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +44,15 @@ public class QuestionService {
     private final QuestionRepository questionRepository;
     private final LearningStatusRepository learningStatusRepository;
     private final RoomService roomService;
+    private final QuestionCache questionCache;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final AnswerSubmissionWriter answerSubmissionWriter;
+    private final QuestionOrderAllocator questionOrderAllocator;
+    private final QuestionStatsRepository questionStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final QuestionRecommender questionRecommender;
+    private final MeterRegistry meterRegistry;
     private final BadWordFiltering badWordFiltering = new BadWordFiltering();
 
     @Transactional
@@ -41,9 +63,6 @@ public class QuestionService {
             throw new CustomException(ErrorCode.PROFANITY_DETECTED);
         }
 
-        Long maxOrder = questionRepository.findMaxOrderInRoom(roomId);
-        long newOrder = (maxOrder == null) ? 1 : maxOrder + 1;
-
         if (badWordFiltering.check(requestDto.getAnswer().getFirst()) ||
                 badWordFiltering.check(requestDto.getAnswer().getSecond()) ||
                 badWordFiltering.check(requestDto.getAnswer().getThird()) ||
@@ -70,23 +89,37 @@ public class QuestionService {
                 point,
                 answer
         );
-        question.setOrderInRoom(newOrder);
+        question.setOrderInRoom(questionOrderAllocator.next(roomId));
 
         questionRepository.save(question);
+        questionCache.evictRoom(roomId);
+        questionSearchIndex.onSaved(roomId, question.getId(), question.getTitle(), question.getContent());
         return new QuestionResponseDto(question);
     }
 
     @Transactional(readOnly = true)
     public Page<QuestionResponseDto> getAllQuestion(Long roomId, Pageable pageable) {
-        Room room = roomService.findById(roomId);
+        return questionCache.getPage(roomId, pageable, () -> {
+            Room room = roomService.findById(roomId);
 
-        // Room 엔티티와 Pageable을 사용하여 페이지네이션된 Question 객체 목록을 조회
-        Page<Question> questionPage = questionRepository.findAllByRoom(room, pageable);
+            // Room 엔티티와 Pageable을 사용하여 페이지네이션된 Question 객체 목록을 조회
+            Page<Question> questionPage = questionRepository.findAllByRoom(room, pageable);
 
-        // Question 엔티티를 QuestionResponseDto로 변환하고 페이지네이션된 결과를 반환
-        return questionPage.map(QuestionResponseDto::new);
+            // Question 엔티티를 QuestionResponseDto로 변환하고 페이지네이션된 결과를 반환
+            return questionPage.map(QuestionResponseDto::new);
+        });
     }
 
+    // 문제 목록 keyset 조회 (count 쿼리 없음, 깊은 페이지도 일정한 비용)
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionResponseDto> getAllQuestionByCursor(Long roomId, String cursor, int size) {
+        roomService.findById(roomId);
+
+        long lastId = (cursor == null || cursor.isBlank()) ? 0L : CursorUtil.decodeLong(cursor);
+        List<QuestionResponseDto> fetched = questionRepository.findByRoomIdAfter(roomId, lastId, PageRequest.of(0, size + 1))
+                .stream().map(QuestionResponseDto::new).toList();
+        return CursorPage.of(fetched, size, question -> CursorUtil.encode(question.getQuestionId()));
+    }
 
     @Transactional(readOnly = true)
     public List<QuestionTitleDto> searchQuestionByTitle(Long roomId, String keyword, int page, int pageSize) {
@@ -102,12 +135,30 @@ public class QuestionService {
         Room room = roomService.findById(roomId);
 
         String trimmedKeyword = keyword.trim();
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Direction.ASC, "updatedAt"));
-        Page<Question> questionPage = questionRepository.findByRoomAndTitleContainingIgnoreCase(room, trimmedKeyword, pageable);
 
-        return questionPage.getContent().stream()
-                .map(QuestionTitleDto::new)
-                .toList();
+        // 색인이 준비되면 역색인으로 관련도 순 검색, 시작 직후 재구성 중에는 기존 LIKE 검색
+        if (questionSearchIndex.isReady()) {
+            return meterRegistry.timer("question.search", "source", "index").record(() -> {
+                List<Long> questionIds = questionSearchIndex.search(room.getId(), trimmedKeyword, page * pageSize, pageSize);
+                Map<Long, Question> questionMap = questionRepository.findAllById(questionIds).stream()
+                        .collect(Collectors.toMap(Question::getId, Function.identity()));
+
+                return questionIds.stream()
+                        .map(questionMap::get)
+                        .filter(Objects::nonNull)
+                        .map(QuestionTitleDto::new)
+                        .toList();
+            });
+        }
+
+        return meterRegistry.timer("question.search", "source", "database").record(() -> {
+            Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Direction.ASC, "updatedAt"));
+            Page<Question> questionPage = questionRepository.findByRoomAndTitleContainingIgnoreCase(room, trimmedKeyword, pageable);
+
+            return questionPage.getContent().stream()
+                    .map(QuestionTitleDto::new)
+                    .toList();
+        });
     }
 
     @Transactional
@@ -120,6 +171,7 @@ public class QuestionService {
         }
 
         Long updatedPoint = calculatePointByDifficulty(requestDto.getDifficulty());
+        Long previousPoint = question.getPoint();
 
         question.updateQuestion(requestDto,updatedPoint);
 
@@ -141,6 +193,12 @@ public class QuestionService {
         answer.updateAnswer(requestDto.getAnswer());
 
         Question updatedQuestion = questionRepository.save(question);
+        if (!Objects.equals(previousPoint, updatedQuestion.getPoint())) {
+            // 이 문제를 푼 사용자의 포인트 합계는 커밋 후 다시 계산
+            eventPublisher.publishEvent(new UserTotalsStaleEvent(learningStatusRepository.findUserIdsByQuestionId(questionId)));
+        }
+        questionCache.evictRoom(roomId);
+        questionSearchIndex.onSaved(roomId, updatedQuestion.getId(), updatedQuestion.getTitle(), updatedQuestion.getContent());
         return new QuestionResponseDto(updatedQuestion);
     }
 
@@ -152,77 +210,114 @@ public class QuestionService {
         if (!question.getRoom().getId().equals(room.getId())) {
             throw new CustomException(ErrorCode.QUESTION_ROOM_MISMATCH);
         }
+        List<Long> affectedUserIds = learningStatusRepository.findUserIdsByQuestionId(questionId);
         questionRepository.delete(question);
+        eventPublisher.publishEvent(new UserTotalsStaleEvent(affectedUserIds));
+        questionCache.evictRoom(roomId);
+        questionSearchIndex.onDeleted(roomId, questionId);
     }
 
     @Transactional(readOnly = true)
     public QuestionDetailDto getQuestionDetail(Long roomId, Long questionId) {
-        Room room = roomService.findById(roomId);
-        Question question = findById(questionId);
+        return questionCache.getDetail(roomId, questionId, () -> {
+            Room room = roomService.findById(roomId);
+            Question question = findById(questionId);
 
-        if (!question.getRoom().getId().equals(room.getId())) {
-            throw new CustomException(ErrorCode.QUESTION_ROOM_MISMATCH);
-        }
+            if (!question.getRoom().getId().equals(room.getId())) {
+                throw new CustomException(ErrorCode.QUESTION_ROOM_MISMATCH);
+            }
 
-        return new QuestionDetailDto(question);
+            return new QuestionDetailDto(question);
+        });
+    }
+
+    // 문제 상세 응답 전체(DataCommonResponse JSON)를 직렬화된 바이트로 캐싱 => 캐시 적중 시 DTO 생성/직렬화 없음
+    public SerializedResponse getQuestionDetailResponse(Long roomId, Long questionId) {
+        return questionCache.getDetailResponse(roomId, questionId, () -> {
+            DataCommonResponse<QuestionDetailDto> response =
+                    new DataCommonResponse<>(200, "문제 조회에 성공했습니다.", getQuestionDetail(roomId, questionId));
+            try {
+                return SerializedResponse.of(objectMapper.writeValueAsBytes(response));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
     }
 
     @Transactional
     public AnswerResultDto submitAnswer(Long roomId, Long questionId, AnswerSubmissionDto submissionDto, User user) {
-        Room room = roomService.findById(roomId);
-        Question question = findById(questionId);
+        // 캐시된 문제 상세로 메모리에서 채점 (방 / 문제 일치 여부도 여기서 확인)
+        QuestionDetailDto question = getQuestionDetail(roomId, questionId);
 
-        if (!question.getRoom().getId().equals(room.getId())) {
-            throw new CustomException(ErrorCode.QUESTION_ROOM_MISMATCH);
-        }
-
-        Answer answer = question.getAnswer();
+        AnswerOptionDto answer = question.getAnswerOption();
         if (answer == null) {
             throw new CustomException(ErrorCode.ANSWER_NOT_FOUND);
         }
 
         boolean isCorrect = (submissionDto.getSelectedAnswer() == answer.getAnswered());
-        Long earnedPoints = 0L;
-        String message;
-
-        Optional<LearningStatus> learningStatusOptional = learningStatusRepository.findByQuestionAndUser(question, user);
-
-        if (isCorrect) {
-            earnedPoints = question.getPoint();
-            message = "정답입니다.";
-
-            if (learningStatusOptional.isPresent()) { // 중복값 있는 경우 => DB에 저장되어있는 상태
-                LearningStatus status = learningStatusOptional.get();
-                if (status.getQuestionType() == QuestionType.WRONG) {
-                    status.updateStatus(QuestionType.SOLVE);
-                    learningStatusRepository.save(status);
-                }
-            } else { // 중복값이 없는 경우 => DB에 저장되어있지 않은 상태
-                LearningStatus newStatus = new LearningStatus(question, user, QuestionType.SOLVE);
-                learningStatusRepository.save(newStatus);
-            }
-        } else {
-            message = "오답입니다.";
+        Long earnedPoints = isCorrect ? question.getPoint() : 0L;
+        String message = isCorrect ? "정답입니다." : "오답입니다.";
+
+        eventPublisher.publishEvent(new AnswerGradedEvent(
+                roomId, questionId, user.getId(), submissionDto.getSelectedAnswer(), isCorrect, question.getPoint()));
+
+        // 학습 상태 반영은 write-behind writer 에 맡긴다 (비활성화 시 이 트랜잭션에서 바로 upsert)
+        Boolean newlyEarned = answerSubmissionWriter.submit(new LearningStatusChangeDto(
+                roomId,
+                questionId,
+                user.getId(),
+                isCorrect ? QuestionType.SOLVE : QuestionType.WRONG,
+                LocalDateTime.now()
+        ));
+
+        if (Boolean.TRUE.equals(newlyEarned)) {
+            questionCache.evictSolverCount(questionId);
+        }
+
+        return new AnswerResultDto(isCorrect, earnedPoints, message, newlyEarned);
+    }
 
-            if (!learningStatusOptional.isPresent()) {
-                LearningStatus newStatus = new LearningStatus(question, user, QuestionType.WRONG);
-                learningStatusRepository.save(newStatus);
+    // 정답자 목록 => projection 한 번 + keyset 페이지, 정답자 수는 캐시
+    @Transactional(readOnly = true)
+    public SolvedStudentsResponseDto getSolvedStudents(Long roomId, Long questionId, String cursor, int size) {
+        getQuestionDetail(roomId, questionId);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<SolvedStudentDto> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = learningStatusRepository.findSolvedStudents(questionId, QuestionType.SOLVE, limit);
+        } else {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            LocalDateTime solvedAt;
+            Long userId;
+            try {
+                solvedAt = LocalDateTime.parse(keys[0]);
+                userId = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
             }
+            fetched = learningStatusRepository.findSolvedStudentsAfter(questionId, QuestionType.SOLVE, solvedAt, userId, limit);
         }
 
-        return new AnswerResultDto(isCorrect, earnedPoints, message);
+        CursorPage<SolvedStudentDto> page = CursorPage.of(fetched, size,
+                student -> CursorUtil.encode(student.getSolvedAt(), student.getUserId()));
+        Long solvedCount = questionCache.getSolverCount(questionId,
+                () -> learningStatusRepository.countByQuestionIdAndQuestionType(questionId, QuestionType.SOLVE));
+        return new SolvedStudentsResponseDto(solvedCount, page);
     }
 
-    public List<UserDto> getSolvedStudents(Long roomId, Long questionId) {
-        Question question = findById(questionId);
-        if (!question.getRoom().getId().equals(roomId)) {
-            throw new CustomException(ErrorCode.QUESTION_ROOM_MISMATCH);
-        }
+    // 다음에 풀 문제 추천 (추천할 문제가 없으면 null)
+    @Transactional(readOnly = true)
+    public QuestionRecommendationDto getNextQuestion(Long roomId, User user) {
+        roomService.findById(roomId);
+        return questionRecommender.recommend(roomId, user.getId());
+    }
 
-        return learningStatusRepository.findByQuestionAndQuestionType(question, QuestionType.SOLVE)
-            .stream()
-            .map(status -> new UserDto(status.getUser()))
-            .collect(Collectors.toList());
+    // 방장용 문제별 통계 (미리 계산된 question_stats 만 조회)
+    @Transactional(readOnly = true)
+    public List<QuestionStatsDto> getQuestionStats(User user, Long roomId) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+        return questionStatsRepository.findRoomStats(roomId);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,92 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionStatsDeltaDto;
+import com.sparta.eduwithme.domain.question.event.AnswerGradedEvent;
+import com.sparta.eduwithme.domain.question.event.LearningStatusAppliedEvent;
+import com.sparta.eduwithme.domain.question.repository.QuestionStatsJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 문제별 통계(제출 수, 첫 제출 정답률, 보기 분포)를 메모리에서 누적하고 주기적으로 question_stats 에 더한다.
+ * 제출마다 통계 행을 갱신하지 않으므로 같은 문제에 제출이 몰려도 행 잠금 경합이 없다.
+ * 커밋된 제출만 반영하고, 종료 시 남은 증분을 한 번 더 반영한다 (비정상 종료 시 최대 flush 주기만큼 유실 가능).
+ */
+@Slf4j(topic = "QuestionStatsAccumulator")
+@Component
+@RequiredArgsConstructor
+public class QuestionStatsAccumulator {
+
+    private final QuestionStatsJdbcRepository questionStatsJdbcRepository;
+    private final ConcurrentHashMap<Long, QuestionStatsDeltaDto> deltas = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerGraded(AnswerGradedEvent event) {
+        deltas.compute(event.getQuestionId(), (questionId, delta) -> {
+            QuestionStatsDeltaDto target = delta != null ? delta : new QuestionStatsDeltaDto(questionId, event.getRoomId());
+            target.addAttempt(event.getSelectedAnswer());
+            return target;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLearningStatusApplied(LearningStatusAppliedEvent event) {
+        for (LearningStatusOutcomeDto outcome : event.getOutcomes()) {
+            if (!outcome.isFirstAttempt()) {
+                continue;
+            }
+            deltas.compute(outcome.getQuestionId(), (questionId, delta) -> {
+                QuestionStatsDeltaDto target = delta != null ? delta : new QuestionStatsDeltaDto(questionId, outcome.getRoomId());
+                target.addFirstAttempt(outcome.isFirstAttemptCorrect());
+                return target;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${question.stats.flush-interval-millis:5000}")
+    public void flush() {
+        // remove 는 compute 와 같은 잠금을 쓰므로 꺼낸 증분은 더 이상 변경되지 않는다
+        List<QuestionStatsDeltaDto> pending = new ArrayList<>();
+        for (Long questionId : deltas.keySet()) {
+            QuestionStatsDeltaDto delta = deltas.remove(questionId);
+            if (delta != null) {
+                pending.add(delta);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            questionStatsJdbcRepository.addAll(pending);
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 시도하도록 되돌려 놓는다
+            log.warn("question stats flush failed, {} questions will be retried: {}", pending.size(), e.getMessage());
+            pending.forEach(this::restore);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void restore(QuestionStatsDeltaDto failed) {
+        deltas.merge(failed.getQuestionId(), failed, (current, previous) -> {
+            QuestionStatsDeltaDto merged = new QuestionStatsDeltaDto(current.getQuestionId(), current.getRoomId());
+            merged.merge(current);
+            merged.merge(previous);
+            return merged;
+        });
+    }
+}
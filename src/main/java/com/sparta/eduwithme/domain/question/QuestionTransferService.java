@@ -0,0 +1,296 @@
+package com.sparta.eduwithme.domain.question;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.domain.question.dto.AnswerRequestDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionExportDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionFileFormat;
+import com.sparta.eduwithme.domain.question.dto.QuestionImportResultDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionRequestDto;
+import com.sparta.eduwithme.domain.question.entity.Answer;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import com.sparta.eduwithme.domain.question.entity.Question;
+import com.sparta.eduwithme.domain.question.repository.QuestionJdbcRepository;
+import com.sparta.eduwithme.domain.room.RoomService;
+import com.sparta.eduwithme.domain.room.entity.Room;
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.util.CsvReader;
+import com.vane.badwordfiltering.BadWordFiltering;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 문제 일괄 등록(JSON Lines / CSV)과 내보내기.
+ * 등록은 한 행씩 읽어 검사한 뒤 CHUNK_SIZE 단위로 순서 번호를 한 번에 예약하고 Hibernate JDBC batch 로 저장한다 (chunk 마다 커밋).
+ * 내보내기는 id keyset 페이지 단위로 읽어 바로 스트림에 쓰므로 방 전체를 메모리에 올리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionTransferService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int EXPORT_PAGE_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    // Question / Answer 의 문자열 컬럼은 @Column 기본 길이(255)
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final List<String> CSV_COLUMNS =
+        List.of("title", "content", "category", "difficulty", "first", "second", "third", "fourth", "answered");
+
+    private final QuestionJdbcRepository questionJdbcRepository;
+    private final QuestionOrderAllocator questionOrderAllocator;
+    private final QuestionCache questionCache;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final RoomService roomService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final BadWordFiltering badWordFiltering = new BadWordFiltering();
+
+    // 방장만 일괄 등록 / 내보내기 가능
+    public void checkRoomManager(User user, Long roomId) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+    }
+
+    public QuestionImportResultDto importQuestions(User user, Long roomId, QuestionFileFormat format, InputStream inputStream) {
+        checkRoomManager(user, roomId);
+
+        ImportProgress progress = new ImportProgress();
+        List<QuestionRequestDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        try {
+            if (format == QuestionFileFormat.CSV) {
+                readCsv(reader, roomId, chunk, progress);
+            } else {
+                readJsonLines(reader, roomId, chunk, progress);
+            }
+            writeChunk(roomId, chunk, progress);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.IO_EXCEPTION_QUESTION_FILE);
+        } finally {
+            questionCache.evictRoom(roomId);
+        }
+        return new QuestionImportResultDto(progress.imported, progress.rejected, progress.errors);
+    }
+
+    public void exportQuestions(Long roomId, QuestionFileFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == QuestionFileFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+
+        long lastId = 0L;
+        List<QuestionExportDto> page;
+        do {
+            page = questionJdbcRepository.findExportPage(roomId, lastId, EXPORT_PAGE_SIZE);
+            for (QuestionExportDto question : page) {
+                writer.write(format == QuestionFileFormat.CSV ? toCsvLine(question) : objectMapper.writeValueAsString(question));
+                writer.write('\n');
+            }
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getQuestionId();
+            }
+            writer.flush();
+        } while (page.size() == EXPORT_PAGE_SIZE);
+    }
+
+    private void readJsonLines(BufferedReader reader, Long roomId, List<QuestionRequestDto> chunk, ImportProgress progress) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                accept(roomId, lineNumber, objectMapper.readValue(line, QuestionRequestDto.class), chunk, progress);
+            } catch (JsonProcessingException e) {
+                progress.reject(lineNumber, ErrorCode.INVALID_QUESTION_FILE.getMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Long roomId, List<QuestionRequestDto> chunk, ImportProgress progress) throws IOException {
+        CsvReader csvReader = new CsvReader(reader);
+        List<String> header = csvReader.readRecord();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columnIndex = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columnIndex.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columnIndex.keySet().containsAll(CSV_COLUMNS)) {
+            throw new CustomException(ErrorCode.INVALID_QUESTION_FILE);
+        }
+
+        List<String> record;
+        int lineNumber = 1;
+        while ((record = csvReader.readRecord()) != null) {
+            lineNumber++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            QuestionRequestDto row;
+            try {
+                row = toRequestDto(record, columnIndex);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                progress.reject(lineNumber, ErrorCode.INVALID_QUESTION_FILE.getMessage());
+                continue;
+            }
+            accept(roomId, lineNumber, row, chunk, progress);
+        }
+    }
+
+    private QuestionRequestDto toRequestDto(List<String> record, Map<String, Integer> columnIndex) {
+        return new QuestionRequestDto(
+            record.get(columnIndex.get("title")),
+            record.get(columnIndex.get("content")),
+            Category.valueOf(record.get(columnIndex.get("category")).trim().toUpperCase(Locale.ROOT)),
+            Difficulty.valueOf(record.get(columnIndex.get("difficulty")).trim().toUpperCase(Locale.ROOT)),
+            new AnswerRequestDto(
+                record.get(columnIndex.get("first")),
+                record.get(columnIndex.get("second")),
+                record.get(columnIndex.get("third")),
+                record.get(columnIndex.get("fourth")),
+                Integer.parseInt(record.get(columnIndex.get("answered")).trim())
+            )
+        );
+    }
+
+    private void accept(Long roomId, int lineNumber, QuestionRequestDto row, List<QuestionRequestDto> chunk, ImportProgress progress) {
+        String error = validate(row);
+        if (error != null) {
+            progress.reject(lineNumber, error);
+            return;
+        }
+        chunk.add(row);
+        if (chunk.size() == CHUNK_SIZE) {
+            writeChunk(roomId, chunk, progress);
+        }
+    }
+
+    // createQuestion 과 같은 검사 (필수 값 + 비속어) + 정답 번호 범위 / 컬럼 길이
+    private String validate(QuestionRequestDto row) {
+        AnswerRequestDto answer = row.getAnswer();
+        if (row.getTitle() == null || row.getContent() == null || row.getCategory() == null || row.getDifficulty() == null
+            || answer == null || answer.getFirst() == null || answer.getSecond() == null
+            || answer.getThird() == null || answer.getFourth() == null) {
+            return ErrorCode.INVALID_QUESTION_FILE.getMessage();
+        }
+        if (answer.getAnswered() < 1 || answer.getAnswered() > 4) {
+            return ErrorCode.INVALID_QUESTION_ANSWER.getMessage();
+        }
+        List<String> fields = List.of(row.getTitle(), row.getContent(),
+            answer.getFirst(), answer.getSecond(), answer.getThird(), answer.getFourth());
+        // 컬럼 길이를 넘는 행은 청크 INSERT 전체를 실패시키므로 여기서 행 단위로 거른다
+        if (fields.stream().anyMatch(field -> field.length() > MAX_FIELD_LENGTH)) {
+            return ErrorCode.QUESTION_FIELD_TOO_LONG.getMessage();
+        }
+        boolean profane = fields.stream().anyMatch(badWordFiltering::check);
+        return profane ? ErrorCode.PROFANITY_DETECTED.getMessage() : null;
+    }
+
+    private void writeChunk(Long roomId, List<QuestionRequestDto> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            long firstOrder = questionOrderAllocator.reserve(roomId, chunk.size());
+            Room room = entityManager.getReference(Room.class, roomId);
+
+            // pooled id 라서 persist 시점에 id 가 정해지고, flush 때 answers / questions 가 각각 JDBC batch 로 나간다
+            List<Question> questions = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Question question = toQuestion(room, chunk.get(i));
+                question.setOrderInRoom(firstOrder + i);
+                entityManager.persist(question);
+                questions.add(question);
+            }
+            entityManager.flush();
+
+            questions.forEach(question ->
+                questionSearchIndex.onSaved(roomId, question.getId(), question.getTitle(), question.getContent()));
+            // OSIV 로 요청 내내 열려 있는 영속성 컨텍스트에 chunk 가 쌓이지 않도록 비운다
+            entityManager.clear();
+        });
+        progress.imported += chunk.size();
+        chunk.clear();
+    }
+
+    private Question toQuestion(Room room, QuestionRequestDto row) {
+        AnswerRequestDto answerDto = row.getAnswer();
+        Answer answer = new Answer(
+            answerDto.getFirst(),
+            answerDto.getSecond(),
+            answerDto.getThird(),
+            answerDto.getFourth(),
+            answerDto.getAnswered()
+        );
+        return new Question(
+            room,
+            row.getTitle(),
+            row.getContent(),
+            row.getCategory(),
+            row.getDifficulty(),
+            row.getDifficulty().getPoint(),
+            answer
+        );
+    }
+
+    private String toCsvLine(QuestionExportDto question) {
+        AnswerRequestDto answer = question.getAnswer();
+        return String.join(",",
+            csv(question.getTitle()),
+            csv(question.getContent()),
+            question.getCategory().name(),
+            question.getDifficulty() == null ? "" : question.getDifficulty().name(),
+            csv(answer.getFirst()),
+            csv(answer.getSecond()),
+            csv(answer.getThird()),
+            csv(answer.getFourth()),
+            String.valueOf(answer.getAnswered()));
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static class ImportProgress {
+        private int imported;
+        private int rejected;
+        private final List<String> errors = new ArrayList<>();
+
+        void reject(int lineNumber, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "행: " + reason);
+            }
+        }
+    }
+}
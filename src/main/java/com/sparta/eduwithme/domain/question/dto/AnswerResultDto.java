@@ -9,4 +9,6 @@ public class AnswerResultDto {
     private boolean correct;
     private Long earnedPoints;
     private String message;
+    // 이번 제출로 포인트를 새로 얻었는지 (null => write-behind 로 반영 예정이라 아직 알 수 없음)
+    private Boolean newlyEarned;
 }
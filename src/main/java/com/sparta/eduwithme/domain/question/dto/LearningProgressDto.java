@@ -0,0 +1,18 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import lombok.Getter;
+
+/**
+ * 방 안에서 사용자의 문제별 풀이 상태 projection (추천용 bitset 적재)
+ */
+@Getter
+public class LearningProgressDto {
+    private final Long orderInRoom;
+    private final QuestionType questionType;
+
+    public LearningProgressDto(Long orderInRoom, QuestionType questionType) {
+        this.orderInRoom = orderInRoom;
+        this.questionType = questionType;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채점 결과로 생기는 학습 상태 변경 (learning_status 에 batch 로 반영)
+ */
+@Getter
+@AllArgsConstructor
+public class LearningStatusChangeDto {
+    private final Long roomId;
+    private final Long questionId;
+    private final Long userId;
+    private final QuestionType questionType;
+    private final LocalDateTime submittedAt;
+}
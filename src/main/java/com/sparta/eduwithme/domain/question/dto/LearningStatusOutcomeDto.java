@@ -0,0 +1,21 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * learning_status 반영 결과 (문제, 유저 단위)
+ */
+@Getter
+@AllArgsConstructor
+public class LearningStatusOutcomeDto {
+    private final Long roomId;
+    private final Long questionId;
+    private final Long userId;
+    // 이 문제에 대한 첫 제출이었는지
+    private final boolean firstAttempt;
+    // 첫 제출이 정답이었는지
+    private final boolean firstAttemptCorrect;
+    // 포인트를 새로 얻었는지 (처음 맞췄거나 WRONG -> SOLVE)
+    private final boolean newlyEarned;
+}
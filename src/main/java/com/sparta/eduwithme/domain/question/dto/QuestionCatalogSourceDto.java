@@ -0,0 +1,28 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import lombok.Getter;
+
+/**
+ * 추천용 방 문제 목록 적재 projection (본문/보기는 읽지 않는다)
+ */
+@Getter
+public class QuestionCatalogSourceDto {
+    private final Long questionId;
+    private final Long orderInRoom;
+    private final String title;
+    private final Category category;
+    private final Difficulty difficulty;
+    private final Long point;
+
+    public QuestionCatalogSourceDto(Long questionId, Long orderInRoom, String title, Category category,
+                                    Difficulty difficulty, Long point) {
+        this.questionId = questionId;
+        this.orderInRoom = orderInRoom;
+        this.title = title;
+        this.category = category;
+        this.difficulty = difficulty;
+        this.point = point;
+    }
+}
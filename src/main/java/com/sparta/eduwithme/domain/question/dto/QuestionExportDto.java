@@ -0,0 +1,22 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 문제 내보내기 한 행 (일괄 등록 형식과 같은 필드 + 번호 정보)
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionExportDto {
+    private Long questionId;
+    private Long orderInRoom;
+    private String title;
+    private String content;
+    private Category category;
+    private Difficulty difficulty;
+    private Long point;
+    private AnswerRequestDto answer;
+}
@@ -0,0 +1,44 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * 문제 일괄 등록 / 내보내기 파일 형식
+ */
+@Getter
+public enum QuestionFileFormat {
+    JSONL("jsonl", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    QuestionFileFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static QuestionFileFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (QuestionFileFormat format : values()) {
+                if (format.mediaType.includes(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_QUESTION_FILE);
+    }
+
+    public static QuestionFileFormat fromExtension(String extension) {
+        for (QuestionFileFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_QUESTION_FILE);
+    }
+}
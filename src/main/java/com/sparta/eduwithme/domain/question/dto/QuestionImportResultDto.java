@@ -0,0 +1,14 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QuestionImportResultDto {
+    private int importedCount;
+    private int rejectedCount;
+    // 거절된 행 번호와 사유 (최대 100건)
+    private List<String> errors;
+}
@@ -0,0 +1,31 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import lombok.Getter;
+
+@Getter
+public class QuestionRecommendationDto {
+
+    // WRONG = 틀린 뒤 아직 풀지 못한 문제, UNSOLVED = 아직 풀지 않은 문제
+    public enum Reason {
+        WRONG, UNSOLVED
+    }
+
+    private final Long questionId;
+    private final Long orderInRoom;
+    private final String title;
+    private final String category;
+    private final String difficulty;
+    private final Long point;
+    private final Reason reason;
+
+    public QuestionRecommendationDto(Long questionId, Long orderInRoom, String title, String category,
+                                     String difficulty, Long point, Reason reason) {
+        this.questionId = questionId;
+        this.orderInRoom = orderInRoom;
+        this.title = title;
+        this.category = category;
+        this.difficulty = difficulty;
+        this.point = point;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 적재용 projection (연관 엔티티를 로딩하지 않는다)
+ */
+@Getter
+public class QuestionSearchSourceDto {
+    private final Long questionId;
+    private final Long roomId;
+    private final String title;
+    private final String content;
+
+    public QuestionSearchSourceDto(Long questionId, Long roomId, String title, String content) {
+        this.questionId = questionId;
+        this.roomId = roomId;
+        this.title = title;
+        this.content = content;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import lombok.Getter;
+
+/**
+ * flush 전까지 메모리에 모아 두는 문제별 통계 증분.
+ * QuestionStatsAccumulator 의 ConcurrentHashMap.compute 안에서만 변경한다.
+ */
+@Getter
+public class QuestionStatsDeltaDto {
+    private final Long questionId;
+    private final Long roomId;
+    private long attempts;
+    private long firstAttempts;
+    private long firstAttemptCorrect;
+    private final long[] optionCounts = new long[4];
+
+    public QuestionStatsDeltaDto(Long questionId, Long roomId) {
+        this.questionId = questionId;
+        this.roomId = roomId;
+    }
+
+    public void addAttempt(int selectedAnswer) {
+        attempts++;
+        if (selectedAnswer >= 1 && selectedAnswer <= optionCounts.length) {
+            optionCounts[selectedAnswer - 1]++;
+        }
+    }
+
+    public void addFirstAttempt(boolean correct) {
+        firstAttempts++;
+        if (correct) {
+            firstAttemptCorrect++;
+        }
+    }
+
+    public void merge(QuestionStatsDeltaDto other) {
+        attempts += other.attempts;
+        firstAttempts += other.firstAttempts;
+        firstAttemptCorrect += other.firstAttemptCorrect;
+        for (int i = 0; i < optionCounts.length; i++) {
+            optionCounts[i] += other.optionCounts[i];
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 문제별 통계 (question_stats 에 미리 계산된 값만 사용)
+ */
+@Getter
+public class QuestionStatsDto {
+    private final Long questionId;
+    private final Long orderInRoom;
+    private final String title;
+    private final long attempts;
+    private final long firstAttempts;
+    private final long firstAttemptCorrect;
+    // 첫 제출 정답률 (0.0 ~ 1.0), 시도가 없으면 null
+    private final Double firstAttemptCorrectRate;
+    // 1 ~ 4 번 보기 선택 수
+    private final List<Long> optionCounts;
+
+    public QuestionStatsDto(Long questionId, Long orderInRoom, String title,
+                            Long attempts, Long firstAttempts, Long firstAttemptCorrect,
+                            Long option1Count, Long option2Count, Long option3Count, Long option4Count) {
+        this.questionId = questionId;
+        this.orderInRoom = orderInRoom;
+        this.title = title;
+        this.attempts = valueOf(attempts);
+        this.firstAttempts = valueOf(firstAttempts);
+        this.firstAttemptCorrect = valueOf(firstAttemptCorrect);
+        this.firstAttemptCorrectRate = this.firstAttempts == 0 ? null : (double) this.firstAttemptCorrect / this.firstAttempts;
+        this.optionCounts = List.of(valueOf(option1Count), valueOf(option2Count), valueOf(option3Count), valueOf(option4Count));
+    }
+
+    // 아직 통계 행이 없는 문제 (LEFT JOIN => null)
+    private static long valueOf(Long value) {
+        return value == null ? 0L : value;
+    }
+}
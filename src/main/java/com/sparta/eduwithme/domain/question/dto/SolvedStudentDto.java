@@ -0,0 +1,28 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import lombok.Getter;
+
+/**
+ * 문제를 푼 학생 projection (learning_status + users 한 번의 조회)
+ */
+@Getter
+public class SolvedStudentDto {
+    private final Long userId;
+    private final String nickName;
+    private final String photoUrl;
+    private final LocalDateTime solvedAt;
+    private final String formattedSolvedAt;
+
+    public SolvedStudentDto(Long userId, String nickName, String photoUrl, LocalDateTime solvedAt) {
+        this.userId = userId;
+        this.nickName = nickName;
+        this.photoUrl = photoUrl;
+        this.solvedAt = solvedAt;
+        this.formattedSolvedAt = solvedAt.atZone(ZoneId.systemDefault())
+                .withZoneSameInstant(ZoneId.of("Asia/Seoul"))
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparta.eduwithme.domain.question.dto;
+
+import com.sparta.eduwithme.common.response.CursorPage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SolvedStudentsResponseDto {
+    private Long solvedCount;
+    private CursorPage<SolvedStudentDto> students;
+}
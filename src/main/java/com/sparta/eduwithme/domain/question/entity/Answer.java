@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.question.entity;
 
+import com.sparta.eduwithme.common.IdAllocation;
 import com.sparta.eduwithme.common.TimeStamp;
 import com.sparta.eduwithme.domain.question.dto.AnswerRequestDto;
 import com.sparta.eduwithme.domain.question.dto.AnswerUpdateRequestDto;
@@ -13,7 +14,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "answers")
 public class Answer extends TimeStamp {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answers_seq")
+    @SequenceGenerator(name = "answers_seq", sequenceName = "answers_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -9,18 +9,27 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "Learning_status")
+@Table(
+    name = "Learning_status",
+    uniqueConstraints = @UniqueConstraint(name = "uk_learning_status_question_user", columnNames = {"question_id", "user_id"}),
+    indexes = {
+        // 문제별 정답자 keyset 조회 (question_id, question_type, updated_at, user_id)
+        @Index(name = "idx_learning_status_question_solved", columnList = "question_id, question_type, updated_at, user_id"),
+        // 프로필 해결/오답 문제 keyset 조회 (user_id, question_type, question_id)
+        @Index(name = "idx_learning_status_user_type", columnList = "user_id, question_type, question_id")
+    }
+)
 public class LearningStatus extends TimeStamp {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id", nullable = false)
     private Question question;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.question.entity;
 
+import com.sparta.eduwithme.common.IdAllocation;
 import com.sparta.eduwithme.common.TimeStamp;
 import com.sparta.eduwithme.domain.comment.entity.Comment;
 import com.sparta.eduwithme.domain.question.dto.QuestionRequestDto;
@@ -15,11 +16,16 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "questions")
+@Table(
+    name = "questions",
+    // 방별 문제 keyset 조회 (room_id, id)
+    indexes = @Index(name = "idx_questions_room_id", columnList = "room_id, id")
+)
 public class Question extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_seq")
+    @SequenceGenerator(name = "questions_seq", sequenceName = "questions_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,50 @@
+package com.sparta.eduwithme.domain.question.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문제별 누적 통계 (QuestionStatsAccumulator 가 증분을 모아 native upsert 로만 갱신)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "question_stats", indexes = @Index(name = "idx_question_stats_room", columnList = "room_id"))
+public class QuestionStats {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    // 전체 제출 수
+    @Column(name = "attempts", nullable = false)
+    private long attempts;
+
+    // 첫 제출 수 (= 문제를 시도한 학생 수)
+    @Column(name = "first_attempts", nullable = false)
+    private long firstAttempts;
+
+    @Column(name = "first_attempt_correct", nullable = false)
+    private long firstAttemptCorrect;
+
+    // 보기별 선택 수
+    @Column(name = "option1_count", nullable = false)
+    private long option1Count;
+
+    @Column(name = "option2_count", nullable = false)
+    private long option2Count;
+
+    @Column(name = "option3_count", nullable = false)
+    private long option3Count;
+
+    @Column(name = "option4_count", nullable = false)
+    private long option4Count;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.sparta.eduwithme.domain.question.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 답안이 채점되었을 때 (learning_status 반영 여부와 무관하게 제출마다 한 번)
+ */
+@Getter
+@AllArgsConstructor
+public class AnswerGradedEvent {
+    private final Long roomId;
+    private final Long questionId;
+    private final Long userId;
+    private final int selectedAnswer;
+    private final boolean correct;
+    private final Long point;
+}
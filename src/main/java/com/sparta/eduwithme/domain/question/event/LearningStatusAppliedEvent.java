@@ -0,0 +1,15 @@
+package com.sparta.eduwithme.domain.question.event;
+
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * learning_status 가 DB 에 반영되었을 때 (동기 반영이면 요청 트랜잭션, write-behind 면 flush 트랜잭션 안에서 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class LearningStatusAppliedEvent {
+    private final List<LearningStatusOutcomeDto> outcomes;
+}
@@ -0,0 +1,110 @@
+package com.sparta.eduwithme.domain.question.repository;
+
+import com.sparta.eduwithme.domain.question.dto.LearningStatusChangeDto;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * learning_status 를 native upsert 로 반영하는 저장소.
+ * (question_id, user_id) unique key 에 기대어 조회 없이 한 문장으로 insert / WRONG -> SOLVE 전환을 처리한다.
+ * affected rows 로 결과를 구분하므로 datasource 에 useAffectedRows=true 가 필요하다 (1 = insert, 2 = 전환, 0 = 변화 없음).
+ */
+@Repository
+@RequiredArgsConstructor
+public class LearningStatusJdbcRepository {
+
+    // updated_at 은 question_type 보다 먼저 (전환 전 값을 보고) 계산해야 한다
+    private static final String UPSERT_SQL =
+        "INSERT INTO learning_status (question_id, user_id, question_type, created_at, updated_at) VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "updated_at = IF(question_type = 'WRONG' AND VALUES(question_type) = 'SOLVE', VALUES(updated_at), updated_at), " +
+        "question_type = IF(VALUES(question_type) = 'SOLVE', 'SOLVE', question_type)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // affected rows => 1 = 첫 제출(insert), 2 = WRONG -> SOLVE, 0 = 변화 없음
+    public LearningStatusOutcomeDto upsert(LearningStatusChangeDto change) {
+        int affectedRows = jdbcTemplate.update(UPSERT_SQL, toParams(change));
+        boolean solve = change.getQuestionType() == QuestionType.SOLVE;
+        boolean firstAttempt = affectedRows == 1;
+        return new LearningStatusOutcomeDto(change.getRoomId(), change.getQuestionId(), change.getUserId(),
+            firstAttempt, firstAttempt && solve, solve && affectedRows > 0);
+    }
+
+    // batch 는 문장별 affected rows 를 돌려받을 수 없으므로 (rewriteBatchedStatements) 기존 상태를 잠가 읽어 결과를 계산한다.
+    // 같은 (문제, 유저)를 동시에 쓰는 쪽(write-behind / 동기 upsert / 퀴즈 채점 / 실시간 퀴즈)은 커밋까지 기다렸다가 바뀐 상태를 보므로
+    // 포인트를 두 번 얻었다고 판단하지 않는다. 아직 없는 행은 gap lock 으로 막히고, 동시에 insert 하면 한 쪽이 교착 오류로 재시도된다.
+    @Transactional
+    public List<LearningStatusOutcomeDto> applyChanges(List<LearningStatusChangeDto> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 (문제, 유저) 변경은 하나로 합친다 (한 번이라도 정답이면 SOLVE), 첫 제출 판단용으로 가장 앞선 변경도 보관
+        Map<StatusKey, LearningStatusChangeDto> merged = new LinkedHashMap<>();
+        Map<StatusKey, LearningStatusChangeDto> firstChanges = new HashMap<>();
+        for (LearningStatusChangeDto change : changes) {
+            StatusKey key = new StatusKey(change.getQuestionId(), change.getUserId());
+            firstChanges.putIfAbsent(key, change);
+            merged.merge(key, change,
+                (previous, next) -> previous.getQuestionType() == QuestionType.SOLVE ? previous : next);
+        }
+
+        Map<StatusKey, QuestionType> existing = findExisting(merged.keySet());
+
+        List<Object[]> params = new ArrayList<>(merged.size());
+        List<LearningStatusOutcomeDto> outcomes = new ArrayList<>(merged.size());
+        merged.forEach((key, change) -> {
+            params.add(toParams(change));
+
+            QuestionType current = existing.get(key);
+            boolean solve = change.getQuestionType() == QuestionType.SOLVE;
+            boolean firstAttempt = current == null;
+            boolean firstAttemptCorrect = firstAttempt && firstChanges.get(key).getQuestionType() == QuestionType.SOLVE;
+            boolean newlyEarned = solve && current != QuestionType.SOLVE;
+            outcomes.add(new LearningStatusOutcomeDto(change.getRoomId(), key.questionId(), key.userId(),
+                firstAttempt, firstAttemptCorrect, newlyEarned));
+        });
+        jdbcTemplate.batchUpdate(UPSERT_SQL, params);
+        return outcomes;
+    }
+
+    // 호출한 트랜잭션이 끝날 때까지 행(없으면 그 자리)을 잠근다, 교착을 줄이도록 키 순서로 잠근다
+    private Map<StatusKey, QuestionType> findExisting(Collection<StatusKey> keys) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT question_id, user_id, question_type FROM learning_status WHERE (question_id, user_id) IN (");
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        for (StatusKey key : keys) {
+            sql.append(args.isEmpty() ? "(?, ?)" : ", (?, ?)");
+            args.add(key.questionId());
+            args.add(key.userId());
+        }
+        sql.append(") ORDER BY question_id, user_id FOR UPDATE");
+
+        Map<StatusKey, QuestionType> existing = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            existing.put(new StatusKey(rs.getLong("question_id"), rs.getLong("user_id")),
+                QuestionType.valueOf(rs.getString("question_type")));
+        }, args.toArray());
+        return existing;
+    }
+
+    private Object[] toParams(LearningStatusChangeDto change) {
+        Timestamp submittedAt = Timestamp.valueOf(change.getSubmittedAt());
+        return new Object[]{change.getQuestionId(), change.getUserId(), change.getQuestionType().name(), submittedAt, submittedAt};
+    }
+
+    private record StatusKey(Long questionId, Long userId) {
+    }
+}
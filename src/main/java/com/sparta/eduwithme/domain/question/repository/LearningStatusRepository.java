@@ -1,10 +1,15 @@
 package com.sparta.eduwithme.domain.question.repository;
 
+import com.sparta.eduwithme.domain.profile.dto.LeaderboardSourceDto;
 import com.sparta.eduwithme.domain.profile.dto.QuestionDto;
+import com.sparta.eduwithme.domain.profile.dto.ReviewSeedDto;
+import com.sparta.eduwithme.domain.question.dto.LearningProgressDto;
+import com.sparta.eduwithme.domain.question.dto.SolvedStudentDto;
 import com.sparta.eduwithme.domain.question.entity.LearningStatus;
-import com.sparta.eduwithme.domain.question.entity.Question;
 import com.sparta.eduwithme.domain.question.entity.QuestionType;
 import com.sparta.eduwithme.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,17 +18,61 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
-
 public interface LearningStatusRepository extends JpaRepository<LearningStatus, Long> {
     Page<LearningStatus> findByUserAndQuestionType(User user, QuestionType questionType, Pageable pageable);
 
-    Optional<LearningStatus> findByQuestionAndUser(Question question, User user);
+    long countByQuestionIdAndQuestionType(Long questionId, QuestionType questionType);
+
+    // 정답자 keyset 조회 => (updated_at, user_id) 오름차순, idx_learning_status_question_solved 사용
+    @Query("SELECT new com.sparta.eduwithme.domain.question.dto.SolvedStudentDto(u.id, u.nickName, u.photoUrl, ls.updatedAt) " +
+            "FROM LearningStatus ls JOIN ls.user u " +
+            "WHERE ls.question.id = :questionId AND ls.questionType = :questionType " +
+            "ORDER BY ls.updatedAt ASC, ls.user.id ASC")
+    List<SolvedStudentDto> findSolvedStudents(@Param("questionId") Long questionId,
+                                              @Param("questionType") QuestionType questionType,
+                                              Pageable pageable);
+
+    @Query("SELECT new com.sparta.eduwithme.domain.question.dto.SolvedStudentDto(u.id, u.nickName, u.photoUrl, ls.updatedAt) " +
+            "FROM LearningStatus ls JOIN ls.user u " +
+            "WHERE ls.question.id = :questionId AND ls.questionType = :questionType " +
+            "AND (ls.updatedAt > :solvedAt OR (ls.updatedAt = :solvedAt AND ls.user.id > :userId)) " +
+            "ORDER BY ls.updatedAt ASC, ls.user.id ASC")
+    List<SolvedStudentDto> findSolvedStudentsAfter(@Param("questionId") Long questionId,
+                                                   @Param("questionType") QuestionType questionType,
+                                                   @Param("solvedAt") LocalDateTime solvedAt,
+                                                   @Param("userId") Long userId,
+                                                   Pageable pageable);
+
+    // 사용자 합계 재계산 대상 (문제 배점 변경 / 문제 삭제)
+    @Query("SELECT DISTINCT ls.user.id FROM LearningStatus ls WHERE ls.question.id = :questionId")
+    List<Long> findUserIdsByQuestionId(@Param("questionId") Long questionId);
 
-    List<LearningStatus> findByQuestionAndQuestionType(Question question, QuestionType questionType);
+    // 사용자 합계 재계산 대상 (방 삭제)
+    @Query("SELECT DISTINCT ls.user.id FROM LearningStatus ls WHERE ls.question.room.id = :roomId")
+    List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    // 순위표 재구성 => 방 id 묶음 단위로 (방, 사용자) 별 맞춘 문제 배점 합
+    @Query("SELECT new com.sparta.eduwithme.domain.profile.dto.LeaderboardSourceDto(q.room.id, ls.user.id, SUM(q.point)) " +
+            "FROM LearningStatus ls JOIN ls.question q " +
+            "WHERE q.room.id IN :roomIds AND ls.questionType = :questionType " +
+            "GROUP BY q.room.id, ls.user.id")
+    List<LeaderboardSourceDto> findLeaderboardSources(@Param("roomIds") Collection<Long> roomIds,
+                                                      @Param("questionType") QuestionType questionType);
+
+    // 복습 일정 백필 => id keyset
+    @Query("SELECT new com.sparta.eduwithme.domain.profile.dto.ReviewSeedDto(ls.id, ls.user.id, ls.question.id, ls.updatedAt) " +
+            "FROM LearningStatus ls " +
+            "WHERE ls.questionType = :questionType AND ls.id > :lastId " +
+            "ORDER BY ls.id ASC")
+    List<ReviewSeedDto> findReviewSeedsAfter(@Param("questionType") QuestionType questionType,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
 
-    @Query("SELECT SUM(q.point) FROM LearningStatus ls JOIN ls.question q WHERE ls.user.id = :userId AND ls.questionType = :questionType")
-    Long findTotalPointsByUserIdAndQuestionType(@Param("userId") Long userId, @Param("questionType") QuestionType questionType);
+    // 순위표에서 뺄 방 (회원 탈퇴)
+    @Query("SELECT DISTINCT q.room.id FROM LearningStatus ls JOIN ls.question q " +
+            "WHERE ls.user.id = :userId AND ls.questionType = :questionType")
+    List<Long> findRoomIdsByUserIdAndQuestionType(@Param("userId") Long userId,
+                                                  @Param("questionType") QuestionType questionType);
 
     @Query("SELECT new com.sparta.eduwithme.domain.profile.dto.QuestionDto(" +
             "ls.question.id, " +
@@ -40,6 +89,25 @@ public interface LearningStatusRepository extends JpaRepository<LearningStatus,
             "WHERE ls.user.id = :userId AND ls.questionType = :questionType")
     Page<QuestionDto> findQuestionsWithRoomByUserAndQuestionType(@Param("userId") Long userId, @Param("questionType") QuestionType questionType, Pageable pageable);
 
+    // 프로필 해결/오답 문제 keyset 조회 => question_id 오름차순, idx_learning_status_user_type 사용 (count 쿼리 없음)
+    @Query("SELECT new com.sparta.eduwithme.domain.profile.dto.QuestionDto(" +
+            "q.id, q.category, q.title, q.difficulty, q.createdAt, q.updatedAt, r.roomName, q.orderInRoom) " +
+            "FROM LearningStatus ls " +
+            "JOIN ls.question q " +
+            "JOIN q.room r " +
+            "WHERE ls.user.id = :userId AND ls.questionType = :questionType AND ls.question.id > :lastQuestionId " +
+            "ORDER BY ls.question.id ASC")
+    List<QuestionDto> findQuestionsWithRoomByUserAndQuestionTypeAfter(@Param("userId") Long userId,
+                                                                      @Param("questionType") QuestionType questionType,
+                                                                      @Param("lastQuestionId") Long lastQuestionId,
+                                                                      Pageable pageable);
+
+    // 방 안에서 사용자의 풀이 상태 (추천용 bitset 적재)
+    @Query("SELECT new com.sparta.eduwithme.domain.question.dto.LearningProgressDto(q.orderInRoom, ls.questionType) " +
+            "FROM LearningStatus ls JOIN ls.question q " +
+            "WHERE ls.user.id = :userId AND q.room.id = :roomId AND q.orderInRoom IS NOT NULL")
+    List<LearningProgressDto> findProgressByUserAndRoom(@Param("userId") Long userId, @Param("roomId") Long roomId);
+
     @Modifying
     @Query("DELETE FROM LearningStatus ls WHERE ls.user.id = :userId")
     void deleteAllByUserId(Long userId);
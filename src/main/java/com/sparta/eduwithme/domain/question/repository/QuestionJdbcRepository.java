@@ -0,0 +1,49 @@
+package com.sparta.eduwithme.domain.question.repository;
+
+import com.sparta.eduwithme.domain.question.dto.AnswerRequestDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionExportDto;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 문제 내보내기용 JDBC 저장소 (영속성 컨텍스트에 엔티티를 쌓지 않는다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionJdbcRepository {
+
+    private static final String EXPORT_PAGE_SQL =
+        "SELECT q.id, q.order_in_room, q.title, q.content, q.category, q.difficulty, q.point, " +
+        "a.first, a.second, a.third, a.fourth, a.answered " +
+        "FROM questions q JOIN answers a ON a.id = q.answer_id " +
+        "WHERE q.room_id = ? AND q.id > ? ORDER BY q.id LIMIT ?";
+
+    private static final RowMapper<QuestionExportDto> EXPORT_ROW_MAPPER = (rs, rowNum) -> new QuestionExportDto(
+        rs.getLong("id"),
+        rs.getLong("order_in_room"),
+        rs.getString("title"),
+        rs.getString("content"),
+        Category.valueOf(rs.getString("category")),
+        rs.getString("difficulty") == null ? null : Difficulty.valueOf(rs.getString("difficulty")),
+        rs.getLong("point"),
+        new AnswerRequestDto(
+            rs.getString("first"),
+            rs.getString("second"),
+            rs.getString("third"),
+            rs.getString("fourth"),
+            rs.getInt("answered")
+        )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // id 기준 keyset 페이지 (OFFSET 없이 lastId 다음부터)
+    public List<QuestionExportDto> findExportPage(Long roomId, long lastId, int pageSize) {
+        return jdbcTemplate.query(EXPORT_PAGE_SQL, EXPORT_ROW_MAPPER, roomId, lastId, pageSize);
+    }
+}
@@ -1,7 +1,11 @@
 package com.sparta.eduwithme.domain.question.repository;
 
+import com.sparta.eduwithme.domain.profile.dto.ReviewQuestionDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionCatalogSourceDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionSearchSourceDto;
 import com.sparta.eduwithme.domain.question.entity.Question;
 import com.sparta.eduwithme.domain.room.entity.Room;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,8 +20,24 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     @Query("SELECT q FROM Question q WHERE q.room = :room AND LOWER(q.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Question> findByRoomAndTitleContainingIgnoreCase(@Param("room") Room room, @Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT MAX(q.orderInRoom) FROM Question q WHERE q.room.id = :roomId")
-    Long findMaxOrderInRoom(@Param("roomId") Long roomId);
-
     List<Question> findAllByRoomId(Long roomId);
+
+    // 방별 문제 keyset 조회 => idx_questions_room_id (room_id, id)
+    @Query("SELECT q FROM Question q WHERE q.room.id = :roomId AND q.id > :lastId ORDER BY q.id")
+    List<Question> findByRoomIdAfter(@Param("roomId") Long roomId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 추천용 방 문제 목록 (순서 번호가 없는 문제는 제외)
+    @Query("SELECT new com.sparta.eduwithme.domain.question.dto.QuestionCatalogSourceDto(q.id, q.orderInRoom, q.title, q.category, q.difficulty, q.point) " +
+        "FROM Question q WHERE q.room.id = :roomId AND q.orderInRoom IS NOT NULL")
+    List<QuestionCatalogSourceDto> findCatalogSources(@Param("roomId") Long roomId);
+
+    // 복습 목록용 문제/방 정보
+    @Query("SELECT new com.sparta.eduwithme.domain.profile.dto.ReviewQuestionDto(q.id, r.id, r.roomName, q.orderInRoom, q.title, q.category, q.difficulty) " +
+        "FROM Question q JOIN q.room r WHERE q.id IN :questionIds")
+    List<ReviewQuestionDto> findReviewQuestions(@Param("questionIds") Collection<Long> questionIds);
+
+    // 검색 인덱스 재구성용 keyset 조회
+    @Query("SELECT new com.sparta.eduwithme.domain.question.dto.QuestionSearchSourceDto(q.id, q.room.id, q.title, q.content) " +
+        "FROM Question q WHERE q.id > :lastId ORDER BY q.id")
+    List<QuestionSearchSourceDto> findSearchSourcesAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
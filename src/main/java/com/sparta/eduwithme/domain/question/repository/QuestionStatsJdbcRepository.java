@@ -0,0 +1,47 @@
+package com.sparta.eduwithme.domain.question.repository;
+
+import com.sparta.eduwithme.domain.question.dto.QuestionStatsDeltaDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * question_stats 증분 반영 (행이 없으면 만들고, 있으면 각 카운터에 더한다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionStatsJdbcRepository {
+
+    private static final String ADD_SQL =
+        "INSERT INTO question_stats (question_id, room_id, attempts, first_attempts, first_attempt_correct, " +
+        "option1_count, option2_count, option3_count, option4_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "attempts = attempts + VALUES(attempts), " +
+        "first_attempts = first_attempts + VALUES(first_attempts), " +
+        "first_attempt_correct = first_attempt_correct + VALUES(first_attempt_correct), " +
+        "option1_count = option1_count + VALUES(option1_count), " +
+        "option2_count = option2_count + VALUES(option2_count), " +
+        "option3_count = option3_count + VALUES(option3_count), " +
+        "option4_count = option4_count + VALUES(option4_count), " +
+        "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addAll(List<QuestionStatsDeltaDto> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ADD_SQL, deltas.stream()
+            .map(delta -> new Object[]{
+                delta.getQuestionId(), delta.getRoomId(),
+                delta.getAttempts(), delta.getFirstAttempts(), delta.getFirstAttemptCorrect(),
+                delta.getOptionCounts()[0], delta.getOptionCounts()[1], delta.getOptionCounts()[2], delta.getOptionCounts()[3],
+                now})
+            .toList());
+    }
+}
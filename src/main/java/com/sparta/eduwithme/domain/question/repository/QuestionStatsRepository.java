@@ -0,0 +1,19 @@
+package com.sparta.eduwithme.domain.question.repository;
+
+import com.sparta.eduwithme.domain.question.dto.QuestionStatsDto;
+import com.sparta.eduwithme.domain.question.entity.QuestionStats;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QuestionStatsRepository extends JpaRepository<QuestionStats, Long> {
+
+    // 방의 문제 목록 + 미리 계산된 통계 (GROUP BY 없음)
+    @Query("SELECT new com.sparta.eduwithme.domain.question.dto.QuestionStatsDto(" +
+            "q.id, q.orderInRoom, q.title, s.attempts, s.firstAttempts, s.firstAttemptCorrect, " +
+            "s.option1Count, s.option2Count, s.option3Count, s.option4Count) " +
+            "FROM Question q LEFT JOIN QuestionStats s ON s.questionId = q.id " +
+            "WHERE q.room.id = :roomId ORDER BY q.orderInRoom ASC")
+    List<QuestionStatsDto> findRoomStats(@Param("roomId") Long roomId);
+}
@@ -0,0 +1,139 @@
+package com.sparta.eduwithme.domain.quiz;
+
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizRankDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizScoreboardDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * 방 하나의 실시간 퀴즈 상태 (잠금 없이 갱신).
+ * 점수는 사용자별 LongAdder, 진행 중인 문제는 volatile 로 교체하고, 문제마다 첫 답안만 putIfAbsent 로 받는다.
+ * 답안이 들어오면 dirty 표시만 하고 점수판은 방송 주기마다 한 번 계산한다.
+ */
+public class LiveQuiz {
+
+    @Getter
+    private final Long roomId;
+    @Getter
+    private final Long managerUserId;
+
+    private final ConcurrentHashMap<Long, ParticipantScore> scores = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Round currentRound;
+
+    public LiveQuiz(Long roomId, Long managerUserId) {
+        this.roomId = roomId;
+        this.managerUserId = managerUserId;
+    }
+
+    public void open(Round round) {
+        currentRound = round;
+        dirty.set(true);
+    }
+
+    public Round getCurrentRound() {
+        return currentRound;
+    }
+
+    // 정답이면 얻은 점수 추가, 반환값은 누적 점수
+    public long addScore(Long userId, String nickName, boolean correct, long earnedScore) {
+        ParticipantScore score = scores.computeIfAbsent(userId, id -> new ParticipantScore(nickName));
+        if (correct) {
+            score.score.add(earnedScore);
+            score.correctCount.increment();
+        }
+        dirty.set(true);
+        return score.score.sum();
+    }
+
+    // 마지막 방송 뒤 바뀐 것이 있을 때만 true (한 번만)
+    public boolean takeDirty() {
+        return dirty.compareAndSet(true, false);
+    }
+
+    public LiveQuizScoreboardDto scoreboard(int topSize) {
+        List<LiveQuizRankDto> ranking = new ArrayList<>(scores.size());
+        scores.forEach((userId, score) ->
+                ranking.add(new LiveQuizRankDto(0, userId, score.nickName, score.score.sum(), score.correctCount.sum())));
+        ranking.sort(Comparator.comparingLong(LiveQuizRankDto::getScore).reversed()
+                .thenComparing(LiveQuizRankDto::getUserId));
+
+        List<LiveQuizRankDto> top = new ArrayList<>(Math.min(topSize, ranking.size()));
+        for (int i = 0; i < ranking.size() && i < topSize; i++) {
+            LiveQuizRankDto rank = ranking.get(i);
+            top.add(new LiveQuizRankDto(i + 1, rank.getUserId(), rank.getNickName(), rank.getScore(), rank.getCorrectCount()));
+        }
+
+        Round round = currentRound;
+        if (round == null) {
+            return new LiveQuizScoreboardDto(null, 0L, List.of(0L, 0L, 0L, 0L), scores.size(), top);
+        }
+        return new LiveQuizScoreboardDto(round.getQuestionId(), round.answers.size(), round.optionCounts(), scores.size(), top);
+    }
+
+    private static final class ParticipantScore {
+
+        private final String nickName;
+        private final LongAdder score = new LongAdder();
+        private final LongAdder correctCount = new LongAdder();
+
+        ParticipantScore(String nickName) {
+            this.nickName = nickName;
+        }
+    }
+
+    /**
+     * 진행 중인 문제 하나 (정답 번호와 배점은 문제를 낼 때 메모리에 올려 둔다)
+     */
+    public static class Round {
+
+        @Getter
+        private final Long questionId;
+        @Getter
+        private final int answered;
+        @Getter
+        private final long point;
+        private final long openedAt;
+        @Getter
+        private final long closesAt;
+
+        private final ConcurrentHashMap<Long, Integer> answers = new ConcurrentHashMap<>();
+        private final AtomicLongArray optionCounts = new AtomicLongArray(4);
+
+        public Round(Long questionId, int answered, long point, long openedAt, long closesAt) {
+            this.questionId = questionId;
+            this.answered = answered;
+            this.point = point;
+            this.openedAt = openedAt;
+            this.closesAt = closesAt;
+        }
+
+        // 제한 시간 안의 첫 답안만 true
+        public boolean accept(Long userId, int selectedAnswer, long nowMillis) {
+            if (nowMillis > closesAt || answers.putIfAbsent(userId, selectedAnswer) != null) {
+                return false;
+            }
+            if (selectedAnswer >= 1 && selectedAnswer <= 4) {
+                optionCounts.incrementAndGet(selectedAnswer - 1);
+            }
+            return true;
+        }
+
+        // 배점 + 남은 시간 비율만큼의 속도 보너스 (바로 맞히면 최대 2배)
+        public long scoreOf(long nowMillis) {
+            long duration = Math.max(1, closesAt - openedAt);
+            long remaining = Math.max(0, closesAt - nowMillis);
+            return point + point * remaining / duration;
+        }
+
+        private List<Long> optionCounts() {
+            return List.of(optionCounts.get(0), optionCounts.get(1), optionCounts.get(2), optionCounts.get(3));
+        }
+    }
+}
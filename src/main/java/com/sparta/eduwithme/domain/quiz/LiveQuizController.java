@@ -0,0 +1,76 @@
+package com.sparta.eduwithme.domain.quiz;
+
+import com.sparta.eduwithme.common.response.DataCommonResponse;
+import com.sparta.eduwithme.common.response.StatusCommonResponse;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizAnswerDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizAnswerResultDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizQuestionDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizQuestionRequestDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizScoreboardDto;
+import com.sparta.eduwithme.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class LiveQuizController {
+
+    private final LiveQuizService liveQuizService;
+
+    //실시간 퀴즈 시작 (방장)
+    @Operation(summary = "startLiveQuiz", description = "실시간 퀴즈 시작 기능입니다. (방장, /api/topic/room/{roomId}/quiz 로 방송)")
+    @PostMapping("/api/rooms/{roomId}/live-quiz")
+    public ResponseEntity<StatusCommonResponse> startQuiz(@PathVariable Long roomId,
+                                                          @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        liveQuizService.startQuiz(userDetails.getUser(), roomId);
+        StatusCommonResponse response = new StatusCommonResponse(201, "실시간 퀴즈가 시작되었습니다.");
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    //실시간 퀴즈 문제 내기 (방장)
+    @Operation(summary = "pushLiveQuizQuestion", description = "실시간 퀴즈 문제 방송 기능입니다. (방장)")
+    @PostMapping("/api/rooms/{roomId}/live-quiz/questions")
+    public ResponseEntity<DataCommonResponse<LiveQuizQuestionDto>> pushQuestion(@PathVariable Long roomId,
+                                                                                @RequestBody LiveQuizQuestionRequestDto requestDto,
+                                                                                @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        LiveQuizQuestionDto question = liveQuizService.pushQuestion(userDetails.getUser(), roomId, requestDto);
+        DataCommonResponse<LiveQuizQuestionDto> response = new DataCommonResponse<>(200, "문제가 방송되었습니다.", question);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //실시간 퀴즈 점수판 조회
+    @Operation(summary = "getLiveQuizScoreboard", description = "실시간 퀴즈 점수판 조회 기능입니다.")
+    @GetMapping("/api/rooms/{roomId}/live-quiz/scoreboard")
+    public ResponseEntity<DataCommonResponse<LiveQuizScoreboardDto>> getScoreboard(@PathVariable Long roomId) {
+        LiveQuizScoreboardDto scoreboard = liveQuizService.getScoreboard(roomId);
+        DataCommonResponse<LiveQuizScoreboardDto> response = new DataCommonResponse<>(200, "점수판 조회를 성공하였습니다.", scoreboard);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //실시간 퀴즈 종료 (방장)
+    @Operation(summary = "endLiveQuiz", description = "실시간 퀴즈 종료 기능입니다. (방장)")
+    @PostMapping("/api/rooms/{roomId}/live-quiz/end")
+    public ResponseEntity<DataCommonResponse<LiveQuizScoreboardDto>> endQuiz(@PathVariable Long roomId,
+                                                                             @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        LiveQuizScoreboardDto scoreboard = liveQuizService.endQuiz(userDetails.getUser(), roomId);
+        DataCommonResponse<LiveQuizScoreboardDto> response = new DataCommonResponse<>(200, "실시간 퀴즈가 종료되었습니다.", scoreboard);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // 학생 답안 (CONNECT 시 AccessToken 헤더로 인증된 세션), 결과는 /user/api/topic/quiz/result 로 본인에게만
+    @MessageMapping("/quiz/{roomId}/answer")
+    @SendToUser(destinations = "/api/topic/quiz/result", broadcast = false)
+    public LiveQuizAnswerResultDto submitAnswer(@DestinationVariable Long roomId,
+                                                LiveQuizAnswerDto answerDto,
+                                                Principal principal) {
+        return liveQuizService.submitAnswer(roomId, answerDto, principal);
+    }
+}
@@ -0,0 +1,302 @@
+package com.sparta.eduwithme.domain.quiz;
+
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.domain.question.QuestionCache;
+import com.sparta.eduwithme.domain.question.QuestionService;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusChangeDto;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionDetailDto;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.event.AnswerGradedEvent;
+import com.sparta.eduwithme.domain.question.event.LearningStatusAppliedEvent;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusJdbcRepository;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizAnswerDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizAnswerResultDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizMessage;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizQuestionDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizQuestionRequestDto;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizScoreboardDto;
+import com.sparta.eduwithme.domain.room.RoomService;
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.security.UserDetailsImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 실시간 퀴즈 (방장이 문제를 내면 /api/topic/room/{roomId}/quiz 로 방송하고 학생은 STOMP 로 답한다).
+ * 채점은 문제를 낼 때 메모리에 올린 정답으로만 하고(DB 조회 없음), 점수판은 잠금 없는 LongAdder 로 누적한다.
+ * 점수판은 답안마다가 아니라 방송 주기마다 바뀐 방만 한 번씩 방송한다.
+ * 채점 결과는 크기가 정해진 queue 에 쌓아 두고 별도 주기에 한 트랜잭션의 batch upsert 로 learning_status 에 반영한다.
+ * queue 가 가득 차면 답안을 받지 않는다. 반영이 실패한 묶음은 다음 주기에 묶음째 다시 시도하고(최대 persist.max-attempts 번),
+ * 특정 행 때문에 실패하면(ex. 그 사이 삭제된 문제) 반씩 나눠 그 행만 골라낸다. 끝내 반영하지 못한 답안은 ERROR 로그 + dropped 카운터로 남긴다.
+ */
+@Slf4j(topic = "LiveQuizService")
+@Service
+public class LiveQuizService {
+
+    private final RoomService roomService;
+    private final QuestionService questionService;
+    private final QuestionCache questionCache;
+    private final LearningStatusJdbcRepository learningStatusJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final int scoreboardSize;
+    private final int minDurationSeconds;
+    private final int maxDurationSeconds;
+    private final int persistMaxAttempts;
+
+    private final ConcurrentHashMap<Long, LiveQuiz> quizzes = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingAnswer> pending;
+    // 반영에 실패해 다음 주기에 다시 시도할 묶음 (flush 안에서만 사용)
+    private final ArrayDeque<FailedBatch> retries = new ArrayDeque<>();
+
+    private final Counter gradedCounter;
+    private final Counter droppedCounter;
+
+    public LiveQuizService(RoomService roomService,
+                           QuestionService questionService,
+                           QuestionCache questionCache,
+                           LearningStatusJdbcRepository learningStatusJdbcRepository,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           SimpMessageSendingOperations messagingTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${quiz.live.scoreboard-size:10}") int scoreboardSize,
+                           @Value("${quiz.live.min-duration-seconds:5}") int minDurationSeconds,
+                           @Value("${quiz.live.max-duration-seconds:300}") int maxDurationSeconds,
+                           @Value("${quiz.live.pending-capacity:50000}") int pendingCapacity,
+                           @Value("${quiz.live.persist.max-attempts:5}") int persistMaxAttempts) {
+        this.roomService = roomService;
+        this.questionService = questionService;
+        this.questionCache = questionCache;
+        this.learningStatusJdbcRepository = learningStatusJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.messagingTemplate = messagingTemplate;
+        this.scoreboardSize = scoreboardSize;
+        this.minDurationSeconds = minDurationSeconds;
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.persistMaxAttempts = persistMaxAttempts;
+        this.pending = new LinkedBlockingQueue<>(pendingCapacity);
+
+        this.gradedCounter = Counter.builder("quiz.live.graded").register(meterRegistry);
+        this.droppedCounter = Counter.builder("quiz.live.persist.dropped").register(meterRegistry);
+        Gauge.builder("quiz.live.open", quizzes, Map::size).register(meterRegistry);
+        Gauge.builder("quiz.live.persist.pending", pending, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public static String topicOf(Long roomId) {
+        return "/api/topic/room/" + roomId + "/quiz";
+    }
+
+    public void startQuiz(User user, Long roomId) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+        if (quizzes.putIfAbsent(roomId, new LiveQuiz(roomId, user.getId())) != null) {
+            throw new CustomException(ErrorCode.QUIZ_SESSION_ALREADY_OPEN);
+        }
+        messagingTemplate.convertAndSend(topicOf(roomId), LiveQuizMessage.started());
+    }
+
+    // 문제 내기 => 정답 / 배점을 메모리에 올리고 정답 번호를 뺀 문제를 방송
+    public LiveQuizQuestionDto pushQuestion(User user, Long roomId, LiveQuizQuestionRequestDto requestDto) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+        LiveQuiz quiz = findQuiz(roomId);
+
+        int durationSeconds = requestDto.getDurationSeconds();
+        if (requestDto.getQuestionId() == null || durationSeconds < minDurationSeconds || durationSeconds > maxDurationSeconds) {
+            throw new CustomException(ErrorCode.INVALID_QUIZ_SESSION);
+        }
+        QuestionDetailDto question = questionService.getQuestionDetail(roomId, requestDto.getQuestionId());
+        if (question.getAnswerOption() == null) {
+            throw new CustomException(ErrorCode.ANSWER_NOT_FOUND);
+        }
+
+        long now = System.currentTimeMillis();
+        long closesAt = now + TimeUnit.SECONDS.toMillis(durationSeconds);
+        quiz.open(new LiveQuiz.Round(question.getId(), question.getAnswerOption().getAnswered(),
+                question.getPoint() == null ? 0L : question.getPoint(), now, closesAt));
+
+        LiveQuizQuestionDto questionDto = new LiveQuizQuestionDto(question, durationSeconds, closesAt);
+        messagingTemplate.convertAndSend(topicOf(roomId), LiveQuizMessage.question(questionDto));
+        return questionDto;
+    }
+
+    public LiveQuizScoreboardDto endQuiz(User user, Long roomId) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+        LiveQuiz quiz = quizzes.remove(roomId);
+        if (quiz == null) {
+            throw new CustomException(ErrorCode.LIVE_QUIZ_NOT_FOUND);
+        }
+        LiveQuizScoreboardDto scoreboard = quiz.scoreboard(scoreboardSize);
+        messagingTemplate.convertAndSend(topicOf(roomId), LiveQuizMessage.ended(scoreboard));
+        return scoreboard;
+    }
+
+    public LiveQuizScoreboardDto getScoreboard(Long roomId) {
+        return findQuiz(roomId).scoreboard(scoreboardSize);
+    }
+
+    // 답안 채점 (메모리만 사용, 점수판 방송 / DB 반영은 각자의 주기에)
+    public LiveQuizAnswerResultDto submitAnswer(Long roomId, LiveQuizAnswerDto answerDto, Principal principal) {
+        Long questionId = answerDto.getQuestionId();
+        if (!(principal instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            return LiveQuizAnswerResultDto.rejected(questionId, "로그인이 필요합니다.");
+        }
+        LiveQuiz quiz = quizzes.get(roomId);
+        LiveQuiz.Round round = quiz == null ? null : quiz.getCurrentRound();
+        if (round == null || !round.getQuestionId().equals(questionId)) {
+            return LiveQuizAnswerResultDto.rejected(questionId, "진행 중인 문제가 아닙니다.");
+        }
+        // DB 반영이 밀려 queue 가 가득 차면 채점 전에 거절 (같은 문제에 다시 답할 수 있다)
+        if (pending.remainingCapacity() == 0) {
+            return LiveQuizAnswerResultDto.rejected(questionId, "답안이 몰려 처리하지 못했습니다. 잠시 후 다시 제출해 주세요.");
+        }
+
+        User user = userDetails.getUser();
+        long now = System.currentTimeMillis();
+        if (!round.accept(user.getId(), answerDto.getSelectedAnswer(), now)) {
+            return LiveQuizAnswerResultDto.rejected(questionId, "이미 답안을 제출했거나 제한 시간이 지났습니다.");
+        }
+
+        boolean isCorrect = answerDto.getSelectedAnswer() == round.getAnswered();
+        long earnedScore = isCorrect ? round.scoreOf(now) : 0L;
+        long totalScore = quiz.addScore(user.getId(), user.getNickName(), isCorrect, earnedScore);
+
+        PendingAnswer pendingAnswer = new PendingAnswer(
+                new LearningStatusChangeDto(roomId, questionId, user.getId(),
+                        isCorrect ? QuestionType.SOLVE : QuestionType.WRONG, LocalDateTime.now()),
+                new AnswerGradedEvent(roomId, questionId, user.getId(), answerDto.getSelectedAnswer(), isCorrect, round.getPoint())
+        );
+        if (!pending.offer(pendingAnswer)) {
+            // 위 확인과 사이에 queue 가 찬 경우 => 점수판에는 반영됐지만 learning_status 에는 남지 않는다
+            deadLetter(List.of(pendingAnswer), "pending queue full", null);
+        }
+        gradedCounter.increment();
+
+        String message = isCorrect ? "정답입니다." : "오답입니다.";
+        return new LiveQuizAnswerResultDto(questionId, true, isCorrect, earnedScore, totalScore, message);
+    }
+
+    // 마지막 방송 뒤 답안이 들어온 방만 점수판 방송
+    @Scheduled(fixedDelayString = "${quiz.live.broadcast-interval-millis:1000}")
+    public void broadcastScoreboards() {
+        for (LiveQuiz quiz : quizzes.values()) {
+            if (quiz.takeDirty()) {
+                messagingTemplate.convertAndSend(topicOf(quiz.getRoomId()), LiveQuizMessage.scoreboard(quiz.scoreboard(scoreboardSize)));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.live.flush-interval-millis:2000}")
+    public synchronized void flush() {
+        // 이전 주기에 실패한 묶음 먼저 (이번에 다시 실패하면 뒤에 다시 붙는다)
+        for (int i = retries.size(); i > 0; i--) {
+            FailedBatch failed = retries.poll();
+            persistOrRetry(failed.answers(), failed.attempt() + 1);
+        }
+
+        List<PendingAnswer> batch = new ArrayList<>();
+        pending.drainTo(batch);
+        if (!batch.isEmpty()) {
+            persistOrRetry(batch, 1);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flush();
+        // 종료 시점까지 반영하지 못한 묶음
+        for (FailedBatch failed : retries) {
+            deadLetter(failed.answers(), "shutdown", null);
+        }
+        retries.clear();
+    }
+
+    private void persistOrRetry(List<PendingAnswer> batch, int attempt) {
+        try {
+            persist(batch);
+        } catch (DataIntegrityViolationException e) {
+            // 특정 행 때문 => 반씩 나눠 그 행만 골라낸다 (한 건씩 다시 넣지 않으므로 트랜잭션 수는 문제 행 수 * log n)
+            if (batch.size() == 1) {
+                deadLetter(batch, "integrity violation", e);
+                return;
+            }
+            int middle = batch.size() / 2;
+            persistOrRetry(batch.subList(0, middle), attempt);
+            persistOrRetry(batch.subList(middle, batch.size()), attempt);
+        } catch (RuntimeException e) {
+            // 일시 장애(TransactionException 포함) => 다음 주기에 묶음째 다시
+            if (attempt >= persistMaxAttempts) {
+                deadLetter(batch, "persist failed " + attempt + " times", e);
+                return;
+            }
+            log.warn("live quiz batch persist failed (attempt {}), retrying next flush: size={}, {}",
+                    attempt, batch.size(), e.getMessage());
+            retries.add(new FailedBatch(List.copyOf(batch), attempt));
+        }
+    }
+
+    // 다시 반영할 수 있도록 답안을 ERROR 로그로 남긴다
+    private void deadLetter(List<PendingAnswer> answers, String reason, Exception cause) {
+        droppedCounter.increment(answers.size());
+        log.error("live quiz answers dropped ({}): {}", reason,
+                answers.stream().map(PendingAnswer::change).map(change -> "roomId=" + change.getRoomId()
+                        + ",questionId=" + change.getQuestionId() + ",userId=" + change.getUserId()
+                        + ",type=" + change.getQuestionType()).toList(),
+                cause);
+    }
+
+    private void persist(List<PendingAnswer> batch) {
+        List<LearningStatusChangeDto> changes = batch.stream().map(PendingAnswer::change).toList();
+        // 채점 이벤트도 같은 트랜잭션에서 발행 => 통계 / 추천 / 복습 일정은 커밋 후 반영
+        List<LearningStatusOutcomeDto> outcomes = transactionTemplate.execute(status -> {
+            List<LearningStatusOutcomeDto> applied = learningStatusJdbcRepository.applyChanges(changes);
+            batch.forEach(answer -> eventPublisher.publishEvent(answer.event()));
+            eventPublisher.publishEvent(new LearningStatusAppliedEvent(applied));
+            return applied;
+        });
+        outcomes.stream()
+                .filter(LearningStatusOutcomeDto::isNewlyEarned)
+                .map(LearningStatusOutcomeDto::getQuestionId)
+                .distinct()
+                .forEach(questionCache::evictSolverCount);
+    }
+
+    private LiveQuiz findQuiz(Long roomId) {
+        LiveQuiz quiz = quizzes.get(roomId);
+        if (quiz == null) {
+            throw new CustomException(ErrorCode.LIVE_QUIZ_NOT_FOUND);
+        }
+        return quiz;
+    }
+
+    private record PendingAnswer(LearningStatusChangeDto change, AnswerGradedEvent event) {
+    }
+
+    private record FailedBatch(List<PendingAnswer> answers, int attempt) {
+    }
+}
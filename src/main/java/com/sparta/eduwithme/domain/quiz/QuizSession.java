@@ -0,0 +1,86 @@
+package com.sparta.eduwithme.domain.quiz;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Getter;
+
+/**
+ * 진행 중인 퀴즈 세션과 답안 버퍼.
+ * 답안은 (유저, 문제)마다 마지막 선택만 남기고, 종료 시 한 번에 꺼내 채점한다.
+ * 답안 저장은 read lock, 종료는 write lock 을 잡으므로 종료 뒤에 들어온 답안이 버퍼에 남지 않는다.
+ * DelayQueue 에 그대로 넣을 수 있도록 종료 시각 기준 Delayed 를 구현한다.
+ */
+public class QuizSession implements Delayed {
+
+    @Getter
+    private final String sessionId;
+    @Getter
+    private final Long roomId;
+    @Getter
+    private final Long managerUserId;
+    @Getter
+    private final List<Long> questionIds;
+    @Getter
+    private final long endsAt;
+
+    private final Map<AnswerKey, Integer> answers = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public QuizSession(String sessionId, Long roomId, Long managerUserId, List<Long> questionIds, long endsAt) {
+        this.sessionId = sessionId;
+        this.roomId = roomId;
+        this.managerUserId = managerUserId;
+        this.questionIds = List.copyOf(questionIds);
+        this.endsAt = endsAt;
+    }
+
+    // 종료되었거나 제한 시간이 지났으면 false
+    public boolean record(Long userId, Long questionId, int selectedAnswer, long nowMillis) {
+        lock.readLock().lock();
+        try {
+            if (closed || nowMillis >= endsAt) {
+                return false;
+            }
+            answers.put(new AnswerKey(userId, questionId), selectedAnswer);
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 처음 종료하는 호출만 버퍼를 받고, 이미 종료되었으면 null
+    public Map<AnswerKey, Integer> close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            return Map.copyOf(answers);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long questionId) {
+        return questionIds.contains(questionId);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(endsAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    public record AnswerKey(Long userId, Long questionId) {
+    }
+}
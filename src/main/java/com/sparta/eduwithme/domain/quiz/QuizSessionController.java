@@ -0,0 +1,77 @@
+package com.sparta.eduwithme.domain.quiz;
+
+import com.sparta.eduwithme.common.response.DataCommonResponse;
+import com.sparta.eduwithme.common.response.StatusCommonResponse;
+import com.sparta.eduwithme.domain.quiz.dto.QuizAnswerRequestDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionRequestDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionResponseDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionResultDto;
+import com.sparta.eduwithme.security.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/rooms/{roomId}/quiz-sessions")
+@RequiredArgsConstructor
+public class QuizSessionController {
+
+    private final QuizSessionService quizSessionService;
+
+    //퀴즈 시작 (방장)
+    @Operation(summary = "openQuizSession", description = "제한 시간 퀴즈 시작 기능입니다. (방장)")
+    @PostMapping
+    public ResponseEntity<DataCommonResponse<QuizSessionResponseDto>> openSession(@PathVariable Long roomId,
+                                                                                  @RequestBody QuizSessionRequestDto requestDto,
+                                                                                  @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        QuizSessionResponseDto session = quizSessionService.openSession(userDetails.getUser(), roomId, requestDto);
+        DataCommonResponse<QuizSessionResponseDto> response = new DataCommonResponse<>(201, "퀴즈가 시작되었습니다.", session);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    //진행 중인 퀴즈 조회
+    @Operation(summary = "getQuizSession", description = "진행 중인 퀴즈 조회 기능입니다.")
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<DataCommonResponse<QuizSessionResponseDto>> getSession(@PathVariable Long roomId,
+                                                                                 @PathVariable String sessionId) {
+        QuizSessionResponseDto session = quizSessionService.getSession(roomId, sessionId);
+        DataCommonResponse<QuizSessionResponseDto> response = new DataCommonResponse<>(200, "퀴즈 조회를 성공하였습니다.", session);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //퀴즈 답안 제출 (종료 시 채점)
+    @Operation(summary = "submitQuizAnswer", description = "퀴즈 답안 제출 기능입니다. (퀴즈 종료 시 한 번에 채점)")
+    @PostMapping("/{sessionId}/answers")
+    public ResponseEntity<StatusCommonResponse> submitAnswer(@PathVariable Long roomId,
+                                                             @PathVariable String sessionId,
+                                                             @RequestBody QuizAnswerRequestDto requestDto,
+                                                             @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        quizSessionService.submitAnswer(roomId, sessionId, requestDto, userDetails.getUser());
+        StatusCommonResponse response = new StatusCommonResponse(200, "답안이 저장되었습니다.");
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //퀴즈 종료 (방장)
+    @Operation(summary = "closeQuizSession", description = "퀴즈 종료 기능입니다. (방장)")
+    @PostMapping("/{sessionId}/close")
+    public ResponseEntity<DataCommonResponse<QuizSessionResultDto>> closeSession(@PathVariable Long roomId,
+                                                                                 @PathVariable String sessionId,
+                                                                                 @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        QuizSessionResultDto result = quizSessionService.closeSession(userDetails.getUser(), roomId, sessionId);
+        DataCommonResponse<QuizSessionResultDto> response = new DataCommonResponse<>(200, "퀴즈가 종료되었습니다.", result);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    //퀴즈 결과 조회
+    @Operation(summary = "getQuizResult", description = "종료된 퀴즈 결과 조회 기능입니다.")
+    @GetMapping("/{sessionId}/result")
+    public ResponseEntity<DataCommonResponse<QuizSessionResultDto>> getResult(@PathVariable Long roomId,
+                                                                              @PathVariable String sessionId) {
+        QuizSessionResultDto result = quizSessionService.getResult(roomId, sessionId);
+        DataCommonResponse<QuizSessionResultDto> response = new DataCommonResponse<>(200, "퀴즈 결과 조회를 성공하였습니다.", result);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,427 @@
+package com.sparta.eduwithme.domain.quiz;
+
+import com.sparta.eduwithme.common.cache.LocalCache;
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.domain.question.QuestionCache;
+import com.sparta.eduwithme.domain.question.QuestionService;
+import com.sparta.eduwithme.domain.question.dto.AnswerOptionDto;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusChangeDto;
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import com.sparta.eduwithme.domain.question.dto.QuestionDetailDto;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.event.AnswerGradedEvent;
+import com.sparta.eduwithme.domain.question.event.LearningStatusAppliedEvent;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusJdbcRepository;
+import com.sparta.eduwithme.domain.quiz.dto.QuizAnswerRequestDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizParticipantResultDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionRequestDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionResponseDto;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionResultDto;
+import com.sparta.eduwithme.domain.room.RoomService;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방장이 여는 제한 시간 퀴즈.
+ * 진행 중에는 답안을 세션 버퍼에만 쌓고(QuestionService.submitAnswer 를 거치지 않음),
+ * 종료(제한 시간 또는 방장 종료) 시 한 번에 채점해 learning_status 를 한 트랜잭션의 batch upsert 로 반영한다.
+ * 제한 시간은 DelayQueue 로 관리하므로 타이머 스레드는 가장 먼저 끝나는 세션까지 잠들어 있다 (polling 없음).
+ * 타이머 스레드는 답안 버퍼만 닫고 채점은 채점 스레드에 넘긴다 (DB 지연이 다른 세션의 종료를 늦추지 않게).
+ * 채점이 실패하면 닫힌 답안을 보관한 채 backoff 로 다시 시도하고, 결과를 저장한 뒤에야 세션을 정리한다.
+ * 세션은 이 인스턴스 메모리에만 있으므로, 종료(배포) 시 진행 중인 세션을 모두 채점하고 멈춘다.
+ */
+@Slf4j(topic = "QuizSessionService")
+@Service
+public class QuizSessionService implements SmartLifecycle {
+
+    // 웹 서버가 요청을 더 받지 않게 된 뒤에 멈추도록 웹 서버 lifecycle 보다 낮은 phase
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long MAX_GRADE_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final RoomService roomService;
+    private final QuestionService questionService;
+    private final QuestionCache questionCache;
+    private final UserRepository userRepository;
+    private final LearningStatusJdbcRepository learningStatusJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxQuestions;
+    private final int minDurationSeconds;
+    private final int maxDurationSeconds;
+    private final int gradeThreads;
+    private final int gradeMaxAttempts;
+    private final long gradeBackoffMillis;
+
+    private final ConcurrentHashMap<String, QuizSession> sessions = new ConcurrentHashMap<>();
+    // 방마다 진행 중인 세션은 하나
+    private final ConcurrentHashMap<Long, String> openSessionByRoom = new ConcurrentHashMap<>();
+    private final DelayQueue<QuizSession> expiries = new DelayQueue<>();
+    private final LocalCache<String, QuizSessionResultDto> results;
+    // 닫혔지만 아직 채점 결과를 저장하지 못한 세션의 답안 (세션 id -> 답안)
+    private final ConcurrentHashMap<String, Map<QuizSession.AnswerKey, Integer>> ungraded = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread timerThread;
+    private ScheduledExecutorService grader;
+
+    public QuizSessionService(RoomService roomService,
+                              QuestionService questionService,
+                              QuestionCache questionCache,
+                              UserRepository userRepository,
+                              LearningStatusJdbcRepository learningStatusJdbcRepository,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${quiz.session.max-questions:50}") int maxQuestions,
+                              @Value("${quiz.session.min-duration-seconds:30}") int minDurationSeconds,
+                              @Value("${quiz.session.max-duration-seconds:7200}") int maxDurationSeconds,
+                              @Value("${quiz.session.result.max-size:1000}") int resultMaxSize,
+                              @Value("${quiz.session.result.ttl-seconds:86400}") long resultTtlSeconds,
+                              @Value("${quiz.session.grade.threads:2}") int gradeThreads,
+                              @Value("${quiz.session.grade.max-attempts:6}") int gradeMaxAttempts,
+                              @Value("${quiz.session.grade.backoff-millis:1000}") long gradeBackoffMillis) {
+        this.roomService = roomService;
+        this.questionService = questionService;
+        this.questionCache = questionCache;
+        this.userRepository = userRepository;
+        this.learningStatusJdbcRepository = learningStatusJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxQuestions = maxQuestions;
+        this.minDurationSeconds = minDurationSeconds;
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.gradeThreads = gradeThreads;
+        this.gradeMaxAttempts = gradeMaxAttempts;
+        this.gradeBackoffMillis = gradeBackoffMillis;
+        this.results = new LocalCache<>("quiz.session.result", resultMaxSize, Duration.ofSeconds(resultTtlSeconds));
+        this.results.bindTo(meterRegistry);
+        Gauge.builder("quiz.session.open", sessions, Map::size).register(meterRegistry);
+        Gauge.builder("quiz.session.ungraded", ungraded, Map::size).register(meterRegistry);
+    }
+
+    public QuizSessionResponseDto openSession(User user, Long roomId, QuizSessionRequestDto requestDto) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+
+        List<Long> questionIds = requestDto.getQuestionIds() == null ? List.of()
+                : requestDto.getQuestionIds().stream().filter(Objects::nonNull).distinct().toList();
+        int durationSeconds = requestDto.getDurationSeconds();
+        if (questionIds.isEmpty() || questionIds.size() > maxQuestions
+                || durationSeconds < minDurationSeconds || durationSeconds > maxDurationSeconds) {
+            throw new CustomException(ErrorCode.INVALID_QUIZ_SESSION);
+        }
+        // 방에 속한 문제인지 확인 (캐시된 문제 상세, 채점 때 다시 사용)
+        questionIds.forEach(questionId -> questionService.getQuestionDetail(roomId, questionId));
+
+        long now = System.currentTimeMillis();
+        QuizSession session = new QuizSession(UUID.randomUUID().toString(), roomId, user.getId(), questionIds,
+                now + TimeUnit.SECONDS.toMillis(durationSeconds));
+        if (openSessionByRoom.putIfAbsent(roomId, session.getSessionId()) != null) {
+            throw new CustomException(ErrorCode.QUIZ_SESSION_ALREADY_OPEN);
+        }
+        sessions.put(session.getSessionId(), session);
+        expiries.add(session);
+        return new QuizSessionResponseDto(session, now);
+    }
+
+    public QuizSessionResponseDto getSession(Long roomId, String sessionId) {
+        return new QuizSessionResponseDto(findOpenSession(roomId, sessionId), System.currentTimeMillis());
+    }
+
+    // 답안은 버퍼에만 저장 (같은 문제를 다시 내면 마지막 답안으로 채점)
+    public void submitAnswer(Long roomId, String sessionId, QuizAnswerRequestDto requestDto, User user) {
+        QuizSession session = findOpenSession(roomId, sessionId);
+        if (!session.contains(requestDto.getQuestionId())) {
+            throw new CustomException(ErrorCode.QUIZ_QUESTION_NOT_IN_SESSION);
+        }
+        if (!session.record(user.getId(), requestDto.getQuestionId(), requestDto.getSelectedAnswer(), System.currentTimeMillis())) {
+            throw new CustomException(ErrorCode.QUIZ_SESSION_CLOSED);
+        }
+    }
+
+    // 방장이 제한 시간 전에 종료
+    public QuizSessionResultDto closeSession(User user, Long roomId, String sessionId) {
+        roomService.findByIdAndManagerUserId(user, roomId);
+        QuizSession session = findOpenSession(roomId, sessionId);
+        expiries.remove(session);
+        if (close(session) == null) {
+            // 그 사이 제한 시간으로 종료됨
+            throw new CustomException(ErrorCode.QUIZ_SESSION_CLOSED);
+        }
+        try {
+            return completeGrading(session);
+        } catch (RuntimeException e) {
+            log.warn("quiz session grading failed, retrying in background: sessionId={}", session.getSessionId(), e);
+            scheduleGrading(session, 2, gradeBackoffMillis);
+            throw new CustomException(ErrorCode.QUIZ_SESSION_GRADING_DELAYED);
+        }
+    }
+
+    public QuizSessionResultDto getResult(Long roomId, String sessionId) {
+        QuizSessionResultDto result = results.getIfPresent(sessionId);
+        if (result != null && result.getRoomId().equals(roomId)) {
+            return result;
+        }
+        findOpenSession(roomId, sessionId);
+        throw new CustomException(ErrorCode.QUIZ_SESSION_IN_PROGRESS);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        AtomicInteger threadNumber = new AtomicInteger();
+        grader = Executors.newScheduledThreadPool(gradeThreads, runnable -> {
+            Thread thread = new Thread(runnable, "quiz-session-grader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        timerThread = new Thread(this::runTimer, "quiz-session-timer");
+        timerThread.setDaemon(true);
+        timerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        timerThread.interrupt();
+        try {
+            timerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 대기 중인 재시도는 취소하고, 진행 중인 채점은 끝날 때까지 기다린다
+        grader.shutdownNow();
+        try {
+            grader.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 버퍼에 남은 답안을 잃지 않도록 진행 중이거나 채점을 기다리는 세션을 모두 채점 (마지막 시도)
+        for (QuizSession session : new ArrayList<>(sessions.values())) {
+            close(session);
+            try {
+                completeGrading(session);
+            } catch (RuntimeException e) {
+                giveUp(session, e);
+            }
+        }
+        log.info("quiz session timer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runTimer() {
+        while (running) {
+            try {
+                QuizSession session = expiries.take();
+                if (close(session) != null) {
+                    scheduleGrading(session, 1, 0);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("quiz session close failed", e);
+            }
+        }
+    }
+
+    private QuizSession findOpenSession(Long roomId, String sessionId) {
+        QuizSession session = sessions.get(sessionId);
+        if (session == null || !session.getRoomId().equals(roomId)) {
+            if (results.getIfPresent(sessionId) != null) {
+                throw new CustomException(ErrorCode.QUIZ_SESSION_CLOSED);
+            }
+            throw new CustomException(ErrorCode.QUIZ_SESSION_NOT_FOUND);
+        }
+        return session;
+    }
+
+    // 처음 종료하는 쪽(타이머 / 방장 / 종료 처리)만 답안을 받아 채점 대기로 옮기고, 이미 종료된 세션이면 null
+    private Map<QuizSession.AnswerKey, Integer> close(QuizSession session) {
+        Map<QuizSession.AnswerKey, Integer> answers = session.close();
+        if (answers != null) {
+            ungraded.put(session.getSessionId(), answers);
+        }
+        return answers;
+    }
+
+    // 채점 결과를 저장한 뒤에만 세션과 보관한 답안을 정리한다 (실패하면 예외, 답안은 ungraded 에 남는다)
+    // 같은 세션을 두 쪽(재시도 / 종료 처리)이 동시에 채점하지 않도록 세션 단위로 잠근다
+    private QuizSessionResultDto completeGrading(QuizSession session) {
+        synchronized (session) {
+            Map<QuizSession.AnswerKey, Integer> answers = ungraded.get(session.getSessionId());
+            if (answers == null) {
+                // 다른 쪽에서 이미 정리함
+                return results.getIfPresent(session.getSessionId());
+            }
+            QuizSessionResultDto result = grade(session, answers);
+            results.put(session.getSessionId(), result);
+            release(session);
+            return result;
+        }
+    }
+
+    // 채점 스레드에서 attempt 번째 시도, 실패하면 지수 backoff 로 다시 예약
+    private void gradeInBackground(QuizSession session, int attempt) {
+        try {
+            completeGrading(session);
+        } catch (RuntimeException e) {
+            if (attempt >= gradeMaxAttempts) {
+                giveUp(session, e);
+                return;
+            }
+            long delayMillis = Math.min(MAX_GRADE_BACKOFF_MILLIS, gradeBackoffMillis << (attempt - 1));
+            log.warn("quiz session grading failed (attempt {}), retry in {}ms: sessionId={}",
+                    attempt, delayMillis, session.getSessionId(), e);
+            scheduleGrading(session, attempt + 1, delayMillis);
+        }
+    }
+
+    private void scheduleGrading(QuizSession session, int attempt, long delayMillis) {
+        try {
+            grader.schedule(() -> gradeInBackground(session, attempt), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 => stop() 이 남은 세션을 채점한다
+            log.info("quiz session grading deferred to shutdown: sessionId={}", session.getSessionId());
+        }
+    }
+
+    // 재시도를 모두 실패 => 다시 반영할 수 있도록 답안 전체를 로그로 남기고 세션을 정리
+    private void giveUp(QuizSession session, RuntimeException e) {
+        log.error("quiz session grading gave up: sessionId={}, roomId={}, answers={}",
+                session.getSessionId(), session.getRoomId(), ungraded.get(session.getSessionId()), e);
+        release(session);
+    }
+
+    private void release(QuizSession session) {
+        ungraded.remove(session.getSessionId());
+        sessions.remove(session.getSessionId());
+        openSessionByRoom.remove(session.getRoomId(), session.getSessionId());
+    }
+
+    private QuizSessionResultDto grade(QuizSession session, Map<QuizSession.AnswerKey, Integer> answers) {
+        Long roomId = session.getRoomId();
+
+        // 세션 중 삭제된 문제 / 탈퇴한 유저의 답안은 제외
+        Map<Long, QuestionDetailDto> questions = new HashMap<>();
+        for (Long questionId : session.getQuestionIds()) {
+            try {
+                questions.put(questionId, questionService.getQuestionDetail(roomId, questionId));
+            } catch (CustomException e) {
+                log.info("quiz question removed during session: sessionId={}, questionId={}", session.getSessionId(), questionId);
+            }
+        }
+        HashSet<Long> userIds = new HashSet<>();
+        answers.keySet().forEach(key -> userIds.add(key.userId()));
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        LocalDateTime submittedAt = LocalDateTime.now();
+        List<LearningStatusChangeDto> changes = new ArrayList<>(answers.size());
+        List<AnswerGradedEvent> gradedEvents = new ArrayList<>(answers.size());
+        Map<Long, ParticipantScore> scores = new LinkedHashMap<>();
+        answers.forEach((key, selectedAnswer) -> {
+            QuestionDetailDto question = questions.get(key.questionId());
+            User user = users.get(key.userId());
+            AnswerOptionDto answer = question == null ? null : question.getAnswerOption();
+            if (answer == null || user == null) {
+                return;
+            }
+            boolean isCorrect = selectedAnswer == answer.getAnswered();
+            changes.add(new LearningStatusChangeDto(roomId, key.questionId(), key.userId(),
+                    isCorrect ? QuestionType.SOLVE : QuestionType.WRONG, submittedAt));
+            gradedEvents.add(new AnswerGradedEvent(roomId, key.questionId(), key.userId(), selectedAnswer, isCorrect, question.getPoint()));
+            scores.computeIfAbsent(key.userId(), userId -> new ParticipantScore(user.getNickName()))
+                    .add(isCorrect, question.getPoint());
+        });
+
+        if (!changes.isEmpty()) {
+            // 채점 이벤트도 같은 트랜잭션에서 발행 => 통계 / 추천 / 복습 일정은 커밋 후 반영
+            List<LearningStatusOutcomeDto> outcomes = transactionTemplate.execute(status -> {
+                List<LearningStatusOutcomeDto> applied = learningStatusJdbcRepository.applyChanges(changes);
+                gradedEvents.forEach(eventPublisher::publishEvent);
+                eventPublisher.publishEvent(new LearningStatusAppliedEvent(applied));
+                return applied;
+            });
+            outcomes.stream()
+                    .filter(LearningStatusOutcomeDto::isNewlyEarned)
+                    .map(LearningStatusOutcomeDto::getQuestionId)
+                    .distinct()
+                    .forEach(questionCache::evictSolverCount);
+        }
+
+        List<QuizParticipantResultDto> participants = scores.entrySet().stream()
+                .map(entry -> entry.getValue().toResult(entry.getKey()))
+                .sorted(Comparator.comparingLong(QuizParticipantResultDto::getScore).reversed()
+                        .thenComparing(Comparator.comparingInt(QuizParticipantResultDto::getCorrectCount).reversed())
+                        .thenComparing(QuizParticipantResultDto::getUserId))
+                .toList();
+        log.info("quiz session closed: sessionId={}, roomId={}, answers={}, participants={}",
+                session.getSessionId(), roomId, changes.size(), participants.size());
+        return new QuizSessionResultDto(session.getSessionId(), roomId, session.getQuestionIds().size(), participants);
+    }
+
+    private static final class ParticipantScore {
+
+        private final String nickName;
+        private int answeredCount;
+        private int correctCount;
+        private long score;
+
+        ParticipantScore(String nickName) {
+            this.nickName = nickName;
+        }
+
+        void add(boolean correct, Long point) {
+            answeredCount++;
+            if (correct) {
+                correctCount++;
+                score += point == null ? 0L : point;
+            }
+        }
+
+        QuizParticipantResultDto toResult(Long userId) {
+            return new QuizParticipantResultDto(userId, nickName, answeredCount, correctCount, score);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LiveQuizAnswerDto {
+    private Long questionId;
+    private int selectedAnswer;
+}
@@ -0,0 +1,23 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 실시간 퀴즈 답안 채점 결과 (제출한 사용자에게만 전송)
+ */
+@Getter
+@AllArgsConstructor
+public class LiveQuizAnswerResultDto {
+    private final Long questionId;
+    // 진행 중인 문제에 대한 첫 답안이라 채점되었는지
+    private final boolean accepted;
+    private final boolean correct;
+    private final long earnedScore;
+    private final long totalScore;
+    private final String message;
+
+    public static LiveQuizAnswerResultDto rejected(Long questionId, String message) {
+        return new LiveQuizAnswerResultDto(questionId, false, false, 0L, 0L, message);
+    }
+}
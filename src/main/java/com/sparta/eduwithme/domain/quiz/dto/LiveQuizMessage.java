@@ -0,0 +1,36 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * /api/topic/room/{roomId}/quiz 로 방송하는 메시지
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveQuizMessage {
+
+    public enum Type { STARTED, QUESTION, SCOREBOARD, ENDED }
+
+    private final Type type;
+    private final LiveQuizQuestionDto question;
+    private final LiveQuizScoreboardDto scoreboard;
+
+    public static LiveQuizMessage started() {
+        return new LiveQuizMessage(Type.STARTED, null, null);
+    }
+
+    public static LiveQuizMessage question(LiveQuizQuestionDto question) {
+        return new LiveQuizMessage(Type.QUESTION, question, null);
+    }
+
+    public static LiveQuizMessage scoreboard(LiveQuizScoreboardDto scoreboard) {
+        return new LiveQuizMessage(Type.SCOREBOARD, null, scoreboard);
+    }
+
+    public static LiveQuizMessage ended(LiveQuizScoreboardDto scoreboard) {
+        return new LiveQuizMessage(Type.ENDED, null, scoreboard);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import com.sparta.eduwithme.domain.question.dto.QuestionDetailDto;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 학생에게 내보내는 문제 (정답 번호는 포함하지 않음)
+ */
+@Getter
+public class LiveQuizQuestionDto {
+    private final Long questionId;
+    private final String title;
+    private final String content;
+    private final List<String> options;
+    private final Long point;
+    private final int durationSeconds;
+    private final long closesAt;
+
+    public LiveQuizQuestionDto(QuestionDetailDto question, int durationSeconds, long closesAt) {
+        this.questionId = question.getId();
+        this.title = question.getTitle();
+        this.content = question.getContent();
+        this.options = List.of(
+                question.getAnswerOption().getFirst(),
+                question.getAnswerOption().getSecond(),
+                question.getAnswerOption().getThird(),
+                question.getAnswerOption().getFourth()
+        );
+        this.point = question.getPoint();
+        this.durationSeconds = durationSeconds;
+        this.closesAt = closesAt;
+    }
+}
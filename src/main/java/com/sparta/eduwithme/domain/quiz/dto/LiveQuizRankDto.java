@@ -0,0 +1,14 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LiveQuizRankDto {
+    private final int rank;
+    private final Long userId;
+    private final String nickName;
+    private final long score;
+    private final long correctCount;
+}
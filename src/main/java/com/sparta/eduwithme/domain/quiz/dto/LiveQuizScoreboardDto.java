@@ -0,0 +1,19 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주기적으로 방송하는 점수판 (진행 중인 문제의 응답 수 / 보기 분포 + 상위 순위)
+ */
+@Getter
+@AllArgsConstructor
+public class LiveQuizScoreboardDto {
+    private final Long questionId;
+    private final long answeredCount;
+    // 1 ~ 4 번 보기 선택 수
+    private final List<Long> optionCounts;
+    private final int participantCount;
+    private final List<LiveQuizRankDto> ranking;
+}
@@ -0,0 +1,14 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QuizParticipantResultDto {
+    private final Long userId;
+    private final String nickName;
+    private final int answeredCount;
+    private final int correctCount;
+    private final long score;
+}
@@ -0,0 +1,12 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class QuizSessionRequestDto {
+    private List<Long> questionIds;
+    private int durationSeconds;
+}
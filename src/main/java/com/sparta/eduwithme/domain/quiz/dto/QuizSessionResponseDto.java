@@ -0,0 +1,27 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import com.sparta.eduwithme.domain.quiz.QuizSession;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class QuizSessionResponseDto {
+    private final String sessionId;
+    private final Long roomId;
+    private final List<Long> questionIds;
+    private final String formattedEndsAt;
+    private final long remainingSeconds;
+
+    public QuizSessionResponseDto(QuizSession session, long nowMillis) {
+        this.sessionId = session.getSessionId();
+        this.roomId = session.getRoomId();
+        this.questionIds = session.getQuestionIds();
+        this.formattedEndsAt = Instant.ofEpochMilli(session.getEndsAt())
+                .atZone(ZoneId.of("Asia/Seoul"))
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        this.remainingSeconds = Math.max(0, (session.getEndsAt() - nowMillis) / 1000);
+    }
+}
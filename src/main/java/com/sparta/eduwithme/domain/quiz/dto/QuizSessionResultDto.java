@@ -0,0 +1,17 @@
+package com.sparta.eduwithme.domain.quiz.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 종료된 퀴즈 세션 결과 (점수 내림차순)
+ */
+@Getter
+@AllArgsConstructor
+public class QuizSessionResultDto {
+    private final String sessionId;
+    private final Long roomId;
+    private final int questionCount;
+    private final List<QuizParticipantResultDto> participants;
+}
@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.room;
 
+import com.sparta.eduwithme.common.response.CursorPage;
 import com.sparta.eduwithme.common.response.DataCommonResponse;
 import com.sparta.eduwithme.common.response.StatusCommonResponse;
 import com.sparta.eduwithme.domain.room.dto.*;
@@ -19,6 +20,8 @@ import java.util.List;
 @RequestMapping("/api/rooms")
 public class RoomController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final RoomService roomService;
 
     @Operation(summary = "public 방 생성 기능")
@@ -59,6 +62,21 @@ public class RoomController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @Operation(summary = "방 전체 조회 기능 (cursor 페이지)", description = "최신순 조회, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<DataCommonResponse<CursorPage<RoomWithNickNameDto>>> getRoomListByCursor(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "12") int size)
+    {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<RoomWithNickNameDto> responseDto = roomService.getRoomListByCursor(cursor, pageSize);
+        DataCommonResponse<CursorPage<RoomWithNickNameDto>> response = new DataCommonResponse<>(
+            HttpStatus.OK.value(),
+            "성공적으로 조회가 되었습니다.",
+            responseDto);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "특정 유저가 속한 방 전체 조회")
     @GetMapping("/{userId}")
     public ResponseEntity<DataCommonResponse<List<SelectAllUsersRoomResponseDto>>> selectAllUsersRoom(@PathVariable Long userId) {
@@ -2,19 +2,29 @@ package com.sparta.eduwithme.domain.room;
 
 import com.sparta.eduwithme.common.exception.CustomException;
 import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.common.response.CursorPage;
+import com.sparta.eduwithme.domain.profile.leaderboard.LeaderboardStore;
+import com.sparta.eduwithme.domain.question.QuestionCache;
+import com.sparta.eduwithme.domain.question.QuestionSearchIndex;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
 import com.sparta.eduwithme.domain.room.dto.*;
 import com.sparta.eduwithme.domain.room.entity.Room;
 import com.sparta.eduwithme.domain.room.entity.Student;
 import com.sparta.eduwithme.domain.room.repository.RoomRepository;
 import com.sparta.eduwithme.domain.room.repository.StudentRepository;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.domain.user.event.UserTotalsStaleEvent;
+import com.sparta.eduwithme.util.CursorUtil;
+import com.sparta.eduwithme.util.TransactionUtil;
 import com.vane.badwordfiltering.BadWordFiltering;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +35,11 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final StudentRepository studentRepository;
+    private final QuestionCache questionCache;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final LearningStatusRepository learningStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LeaderboardStore leaderboardStore;
     private final BadWordFiltering badWordFiltering = new BadWordFiltering();
 
     private static final int ROOM_CREATE_LIMIT = 2;
@@ -90,6 +105,24 @@ public class RoomService {
         );
     }
 
+    // 방 목록 keyset 조회 => 최신순, count 쿼리 없음
+    public CursorPage<RoomWithNickNameDto> getRoomListByCursor(String cursor, int size) {
+        LocalDateTime lastCreatedAt = null;
+        Long lastRoomId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = CursorUtil.decode(cursor, 2);
+            try {
+                lastCreatedAt = LocalDateTime.parse(keys[0]);
+                lastRoomId = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        List<RoomWithNickNameDto> fetched = roomRepository.getRoomListAfter(lastCreatedAt, lastRoomId, size + 1);
+        return CursorPage.of(fetched, size, room -> CursorUtil.encode(room.getCreatedAt(), room.getRoomId()));
+    }
+
     public List<SelectAllUsersRoomResponseDto> selectAllUsersRoom(Long userId) {
         List<Student> studentList = studentRepository.findStudentsWithRoomByUserId(userId);
         return studentList.stream().map(SelectAllUsersRoomResponseDto::new).toList();
@@ -108,10 +141,15 @@ public class RoomService {
 
     public void deleteRoom(User user, Long roomId) {
         Room room = findByIdAndManagerUserId(user, roomId);
+        List<Long> affectedUserIds = learningStatusRepository.findUserIdsByRoomId(roomId);
         roomRepository.delete(room);
+        eventPublisher.publishEvent(new UserTotalsStaleEvent(affectedUserIds));
+        questionCache.evictRoom(roomId);
+        questionSearchIndex.onRoomDeleted(roomId);
+        TransactionUtil.afterCommit(() -> leaderboardStore.removeRoom(roomId));
     }
 
-    private Room findByIdAndManagerUserId(User user, Long roomId) {
+    public Room findByIdAndManagerUserId(User user, Long roomId) {
         boolean isRoomExist = roomRepository.findById(roomId).isPresent();
         if(!isRoomExist) {
             throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
@@ -1,5 +1,7 @@
 package com.sparta.eduwithme.domain.room.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -11,4 +13,12 @@ public class RoomWithNickNameDto {
     private String roomPassword;
     private Long managerUserId;
     private String nickName;
-}
\ No newline at end of file
+
+    // keyset 커서 생성용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    public RoomWithNickNameDto(Long roomId, String roomName, String roomPassword, Long managerUserId, String nickName) {
+        this(roomId, roomName, roomPassword, managerUserId, nickName, null);
+    }
+}
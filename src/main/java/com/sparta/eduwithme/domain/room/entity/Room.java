@@ -1,5 +1,6 @@
 package com.sparta.eduwithme.domain.room.entity;
 
+import com.sparta.eduwithme.common.IdAllocation;
 import com.sparta.eduwithme.common.TimeStamp;
 import com.sparta.eduwithme.domain.chat.entity.Chat;
 import com.sparta.eduwithme.domain.question.entity.Question;
@@ -10,14 +11,19 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
-@Table(name = "rooms")
+@Table(
+    name = "rooms",
+    // 방 목록 keyset 조회 (created_at, id) 내림차순
+    indexes = @Index(name = "idx_rooms_created_at", columnList = "created_at, id")
+)
 @Entity
 @Getter
 @NoArgsConstructor
 public class Room extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     private String roomName;
@@ -26,6 +32,10 @@ public class Room extends TimeStamp {
 
     private Long managerUserId;
 
+    // 마지막으로 발급한 문제 순서 번호 (QuestionOrderAllocator 가 native update 로만 변경)
+    @Column(name = "question_sequence", insertable = false, updatable = false)
+    private Long questionSequence;
+
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Student> students;
 
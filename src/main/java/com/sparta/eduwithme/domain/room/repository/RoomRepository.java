@@ -2,7 +2,11 @@ package com.sparta.eduwithme.domain.room.repository;
 
 import com.sparta.eduwithme.domain.room.entity.Room;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -12,4 +16,20 @@ public interface RoomRepository extends JpaRepository<Room, Long>, RoomRepositor
     Optional<Room> findByIdAndManagerUserId(Long roomId, Long managerUserId);
     Optional<Room> findByIdAndRoomPassword(Long roomId, String roomPassword);
     List<Room> findAllByManagerUserId(Long userId);
+
+    // 순위표 재구성용 방 id keyset 조회
+    @Query("SELECT r.id FROM Room r WHERE r.id > :lastId ORDER BY r.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 문제 순서 번호 count 개 발급 => 마지막 번호를 LAST_INSERT_ID 에 남긴다
+    // question_sequence 가 비어 있는 기존 방은 처음 한 번만 현재 최대 order_in_room 에서 이어간다
+    @Modifying
+    @Query(value = "UPDATE rooms SET question_sequence = LAST_INSERT_ID(" +
+        "COALESCE(question_sequence, (SELECT COALESCE(MAX(q.order_in_room), 0) FROM questions q WHERE q.room_id = :roomId)) + :count) " +
+        "WHERE id = :roomId", nativeQuery = true)
+    int increaseQuestionSequence(@Param("roomId") Long roomId, @Param("count") int count);
+
+    // 같은 커넥션(트랜잭션)에서 increaseQuestionSequence 직후에 호출
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findLastInsertId();
 }
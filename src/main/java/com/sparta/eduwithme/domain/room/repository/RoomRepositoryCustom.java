@@ -4,6 +4,12 @@ import com.sparta.eduwithme.domain.room.dto.RoomWithNickNameDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface RoomRepositoryCustom {
     Page<RoomWithNickNameDto> getRoomListWithPage(Pageable pageable);
+
+    // (createdAt, id) 내림차순 keyset 조회, lastCreatedAt 이 null 이면 첫 페이지
+    List<RoomWithNickNameDto> getRoomListAfter(LocalDateTime lastCreatedAt, Long lastRoomId, int limit);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.sparta.eduwithme.domain.room.repository;
 
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.eduwithme.domain.room.dto.RoomWithNickNameDto;
 import com.sparta.eduwithme.domain.room.entity.QRoom;
@@ -8,6 +9,7 @@ import com.sparta.eduwithme.domain.user.entity.QUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class RoomRepositoryImpl implements RoomRepositoryCustom {
@@ -44,4 +46,31 @@ public class RoomRepositoryImpl implements RoomRepositoryCustom {
 
         return new PageImpl<>(content, pageable, total);
     }
+
+    @Override
+    public List<RoomWithNickNameDto> getRoomListAfter(LocalDateTime lastCreatedAt, Long lastRoomId, int limit) {
+        QRoom room = QRoom.room;
+        QUser user = QUser.user;
+
+        BooleanExpression after = null;
+        if (lastCreatedAt != null) {
+            after = room.createdAt.lt(lastCreatedAt)
+                .or(room.createdAt.eq(lastCreatedAt).and(room.id.lt(lastRoomId)));
+        }
+
+        return queryFactory
+            .select(Projections.constructor(RoomWithNickNameDto.class,
+                room.id,
+                room.roomName,
+                room.roomPassword,
+                room.managerUserId,
+                user.nickName,
+                room.createdAt))
+            .from(room)
+            .leftJoin(user).on(room.managerUserId.eq(user.id))
+            .where(after)
+            .orderBy(room.createdAt.desc(), room.id.desc())
+            .limit(limit)
+            .fetch();
+    }
 }
\ No newline at end of file
@@ -13,7 +13,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @Query("SELECT s FROM Student s JOIN FETCH s.room r JOIN FETCH s.user u WHERE r.id = :roomId AND u.id = :userId")
     Optional<Student> findByRoomIdAndUserIdWithJoin(@Param("roomId") Long roomId, @Param("userId") Long userId);
 
-    @Query("SELECT s FROM Student s JOIN FETCH s.user WHERE s.room.id = :roomId")
+    @Query("SELECT s FROM Student s JOIN FETCH s.room JOIN FETCH s.user WHERE s.room.id = :roomId")
     List<Student> findByRoomIdWithUser(@Param("roomId") Long roomId);
 
     @Query("SELECT s FROM Student s LEFT JOIN FETCH s.room r WHERE s.user.id = :userId")
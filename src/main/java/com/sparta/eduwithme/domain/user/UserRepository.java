@@ -1,8 +1,13 @@
 package com.sparta.eduwithme.domain.user;
 
+import com.sparta.eduwithme.domain.user.dto.UserPointsDto;
 import com.sparta.eduwithme.domain.user.entity.User;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -12,4 +17,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByNickName(String sender);
 
+    // 포인트 분포 재구성용 keyset 조회 (PointPercentileTracker)
+    @Query("SELECT new com.sparta.eduwithme.domain.user.dto.UserPointsDto(u.id, u.totalPoints) " +
+            "FROM User u WHERE u.id > :lastId ORDER BY u.id ASC")
+    List<UserPointsDto> findPointsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
 }
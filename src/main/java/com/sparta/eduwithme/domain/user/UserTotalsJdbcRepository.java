@@ -0,0 +1,118 @@
+package com.sparta.eduwithme.domain.user;
+
+import com.sparta.eduwithme.domain.question.dto.LearningStatusOutcomeDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * users 의 total_points / solved_count / wrong_count 를 SQL 로 증감하거나 다시 계산하는 저장소.
+ * 증감은 상대값(col = col + ?)이라 같은 사용자의 동시 제출끼리 서로 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserTotalsJdbcRepository {
+
+    // 배점은 그 시점의 questions.point (문제 배점 변경과는 행 잠금으로 직렬화)
+    private static final String INCREMENT_SQL =
+        "UPDATE users SET " +
+        "total_points = total_points + COALESCE((SELECT q.point FROM questions q WHERE q.id = ?), 0) * ?, " +
+        "solved_count = solved_count + ?, " +
+        "wrong_count = wrong_count + ? " +
+        "WHERE id = ?";
+
+    private static final String RECOMPUTE_SQL =
+        "UPDATE users u SET " +
+        "total_points = (SELECT COALESCE(SUM(q.point), 0) FROM learning_status ls JOIN questions q ON q.id = ls.question_id " +
+        "WHERE ls.user_id = u.id AND ls.question_type = 'SOLVE'), " +
+        "solved_count = (SELECT COUNT(*) FROM learning_status ls WHERE ls.user_id = u.id AND ls.question_type = 'SOLVE'), " +
+        "wrong_count = (SELECT COUNT(*) FROM learning_status ls WHERE ls.user_id = u.id AND ls.question_type = 'WRONG') " +
+        "WHERE u.id = ?";
+
+    // 포인트가 바뀔 사용자 행을 먼저 잠가 증감 전 값을 읽는다 (id 순서로 잠가 제출끼리 교착되지 않게)
+    private static final String SELECT_POINTS_FOR_UPDATE_SQL = "SELECT id, total_points FROM users WHERE id IN (%s) ORDER BY id FOR UPDATE";
+    private static final String SELECT_POINTS_SQL = "SELECT id, total_points FROM users WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출한 트랜잭션(learning_status 반영)에 참여 => 포인트가 바뀐 사용자의 증감 전 / 후 total_points
+    public List<PointChange> applyOutcomes(List<LearningStatusOutcomeDto> outcomes) {
+        List<Object[]> params = new ArrayList<>(outcomes.size());
+        Set<Long> earnedUserIds = new TreeSet<>();
+        for (LearningStatusOutcomeDto outcome : outcomes) {
+            Object[] param = toParams(outcome);
+            if (param != null) {
+                params.add(param);
+            }
+            if (outcome.isNewlyEarned()) {
+                earnedUserIds.add(outcome.getUserId());
+            }
+        }
+        if (params.isEmpty()) {
+            return List.of();
+        }
+        if (earnedUserIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, params);
+            return List.of();
+        }
+
+        Map<Long, Long> before = selectPoints(SELECT_POINTS_FOR_UPDATE_SQL, earnedUserIds);
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, params);
+        Map<Long, Long> after = selectPoints(SELECT_POINTS_SQL, earnedUserIds);
+
+        List<PointChange> changes = new ArrayList<>(earnedUserIds.size());
+        for (Long userId : earnedUserIds) {
+            Long previous = before.get(userId);
+            Long current = after.get(userId);
+            if (previous != null && current != null && !previous.equals(current)) {
+                changes.add(new PointChange(userId, previous, current));
+            }
+        }
+        return changes;
+    }
+
+    // 커밋 후 이벤트에서 호출되므로 새 트랜잭션
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recompute(Collection<Long> userIds) {
+        List<Object[]> params = userIds.stream().map(userId -> new Object[]{userId}).toList();
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECOMPUTE_SQL, params);
+        }
+    }
+
+    private Map<Long, Long> selectPoints(String sql, Collection<Long> userIds) {
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, Long> points = new HashMap<>();
+        jdbcTemplate.query(sql.formatted(placeholders),
+            rs -> {
+                points.put(rs.getLong("id"), rs.getLong("total_points"));
+            },
+            userIds.toArray());
+        return points;
+    }
+
+    // 처음 맞춤 => 정답 +1, 오답 후 맞춤 => 정답 +1 / 오답 -1, 처음 틀림 => 오답 +1, 그 외 변화 없음
+    private Object[] toParams(LearningStatusOutcomeDto outcome) {
+        if (outcome.isNewlyEarned()) {
+            int wrongDelta = outcome.isFirstAttempt() ? 0 : -1;
+            return new Object[]{outcome.getQuestionId(), 1, 1, wrongDelta, outcome.getUserId()};
+        }
+        if (outcome.isFirstAttempt()) {
+            return new Object[]{outcome.getQuestionId(), 0, 0, 1, outcome.getUserId()};
+        }
+        return null;
+    }
+
+    public record PointChange(Long userId, long before, long after) {
+    }
+}
@@ -6,6 +6,7 @@ import com.sparta.eduwithme.domain.user.service.SocialService;
 import com.sparta.eduwithme.domain.user.service.UserService;
 import com.sparta.eduwithme.domain.user.dto.*;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.security.RefreshTokenStore;
 import com.sparta.eduwithme.security.UserDetailsImpl;
 import com.sparta.eduwithme.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -38,6 +40,7 @@ public class UserController {
     private final UserService userService;
     private final SocialService socialService;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${frontend.kakao.domain}")
     private String kakaoDomain;
@@ -88,9 +91,19 @@ public class UserController {
     public void kakaoLogin(@RequestParam String code, HttpServletResponse response) throws JsonProcessingException, UnsupportedEncodingException {
         User user = socialService.kakaoLogin(code);
         String token = jwtUtil.createAccessToken(user);
+        // 일반 로그인(JwtAuthenticationFilter)과 같이 리프레시 토큰 family 를 새로 만든다 => 액세스 토큰 만료 후 /refresh 로 재발급
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(user, familyId);
+        refreshTokenStore.createFamily(
+            user.getEmail(),
+            familyId,
+            jwtUtil.tokenDigest(jwtUtil.refreshTokenSubstring(refreshToken)),
+            JwtUtil.REFRESH_TOKEN_TIME
+        );
 
         String redirectUrl = UriComponentsBuilder.fromUriString(kakaoDomain)
             .queryParam("token", token)
+            .queryParam("refreshToken", refreshToken)
             .queryParam("userId", user.getId())
             .queryParam("nickName", URLEncoder.encode(user.getNickName(), StandardCharsets.UTF_8.toString()))
             .build().toUriString();
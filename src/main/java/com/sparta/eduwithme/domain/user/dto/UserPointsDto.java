@@ -0,0 +1,17 @@
+package com.sparta.eduwithme.domain.user.dto;
+
+import lombok.Getter;
+
+/**
+ * 포인트 분포 재구성용 projection
+ */
+@Getter
+public class UserPointsDto {
+    private final Long userId;
+    private final Long totalPoints;
+
+    public UserPointsDto(Long userId, Long totalPoints) {
+        this.userId = userId;
+        this.totalPoints = totalPoints;
+    }
+}
@@ -1,10 +1,10 @@
 package com.sparta.eduwithme.domain.user.entity;
 
+import com.sparta.eduwithme.common.IdAllocation;
 import com.sparta.eduwithme.common.TimeStamp;
 import com.sparta.eduwithme.domain.chat.entity.Chat;
 import com.sparta.eduwithme.domain.comment.entity.Comment;
 import com.sparta.eduwithme.domain.question.entity.LearningStatus;
-import com.sparta.eduwithme.domain.question.entity.QuestionType;
 import com.sparta.eduwithme.domain.room.entity.Student;
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -21,7 +21,8 @@ import java.util.List;
 public class User extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -39,14 +40,22 @@ public class User extends TimeStamp {
     @Column
     private String photoUrl;
 
-    @Column
-    private String refreshToken;
-
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Chat> chats;
 
     private Long kakaoId;
 
+    // 정답 문제 배점 합 / 정답 수 / 오답 수 => learning_status 반영과 같은 트랜잭션에서 SQL 로 증감 (UserTotalsUpdater)
+    // 엔티티 저장(캐시된 User 병합 포함)이 증감을 덮어쓰지 않도록 update 대상에서 제외
+    @Column(name = "total_points", nullable = false, updatable = false)
+    private Long totalPoints = 0L;
+
+    @Column(name = "solved_count", nullable = false, updatable = false)
+    private Long solvedCount = 0L;
+
+    @Column(name = "wrong_count", nullable = false, updatable = false)
+    private Long wrongCount = 0L;
+
     public User(String email, String password, String nickName, String ranking, String photoUrl) {
         this.email = email;
         this.password = password;
@@ -69,8 +78,11 @@ public class User extends TimeStamp {
         this.kakaoId = kakaoId;
     }
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
+    // 토큰 클레임만으로 만든 인증 주체 (DB 조회 없음, 식별자/이메일/닉네임만 채워짐)
+    public static User ofClaims(Long id, String email, String nickName) {
+        User user = new User(email, null, nickName);
+        user.id = id;
+        return user;
     }
 
     public void updateNickname(String newNickname) {
@@ -98,11 +110,4 @@ public class User extends TimeStamp {
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments;
-
-    public Long getTotalPoints() {
-        return learningStatusList.stream()
-                .filter(ls -> ls.getQuestionType() == QuestionType.SOLVE) // 해결된 문제만 계산
-                .mapToLong(ls -> ls.getQuestion().getPoint()) // 문제의 포인트를 합산
-                .sum();
-    }
 }
@@ -0,0 +1,14 @@
+package com.sparta.eduwithme.domain.user.event;
+
+import java.util.Collection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 증감만으로는 맞출 수 없게 된 사용자 합계 (문제 배점 변경, 문제 / 방 삭제) => 커밋 후 learning_status 로 다시 계산
+ */
+@Getter
+@AllArgsConstructor
+public class UserTotalsStaleEvent {
+    private final Collection<Long> userIds;
+}
@@ -3,10 +3,13 @@ package com.sparta.eduwithme.domain.user.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.eduwithme.domain.profile.ranking.PointPercentileTracker;
 import com.sparta.eduwithme.domain.user.UserRepository;
 import com.sparta.eduwithme.domain.user.dto.KakaoUserInfoDto;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.security.PrincipalCache;
 import com.sparta.eduwithme.util.JwtUtil;
+import com.sparta.eduwithme.util.TransactionUtil;
 import java.net.URI;
 import java.util.Random;
 import java.util.UUID;
@@ -35,6 +38,8 @@ public class SocialService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
+    private final PointPercentileTracker pointPercentileTracker;
 
     //카카오 디벨로퍼에서 REST API 키 입력
     @Value("${client.id}")
@@ -160,6 +165,7 @@ public class SocialService {
             if (sameEmailUser != null) { // 같은 이메일을 가진 유저가 있다면
                 kakaoUser = sameEmailUser;
                 kakaoUser = kakaoUser.kakaoIdUpdate(kakaoId);
+                principalCache.evict(kakaoEmail);
             } else { // DB에 새로운 유저를 등록해준다.
                 String password = UUID.randomUUID().toString();
                 String encodedPassword = passwordEncoder.encode(password);
@@ -171,6 +177,7 @@ public class SocialService {
                 }
 
                 kakaoUser = new User(email, encodedPassword, nickname, kakaoId);
+                TransactionUtil.afterCommit(pointPercentileTracker::onUserAdded);
             }
             userRepository.save(kakaoUser);
         }
@@ -2,20 +2,34 @@ package com.sparta.eduwithme.domain.user.service;
 
 import com.sparta.eduwithme.common.exception.CustomException;
 import com.sparta.eduwithme.common.exception.ErrorCode;
+import com.sparta.eduwithme.domain.profile.leaderboard.LeaderboardStore;
+import com.sparta.eduwithme.domain.profile.ranking.PointPercentileTracker;
+import com.sparta.eduwithme.domain.profile.review.ReviewScheduleStore;
+import com.sparta.eduwithme.domain.question.QuestionCache;
+import com.sparta.eduwithme.domain.question.QuestionSearchIndex;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
 import com.sparta.eduwithme.domain.room.entity.Room;
 import com.sparta.eduwithme.domain.room.repository.RoomRepository;
 import com.sparta.eduwithme.domain.room.repository.StudentRepository;
 import com.sparta.eduwithme.domain.user.UserRepository;
 import com.sparta.eduwithme.domain.user.dto.SignupRequestDto;
 import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.domain.user.event.UserTotalsStaleEvent;
+import com.sparta.eduwithme.security.PrincipalCache;
+import com.sparta.eduwithme.security.RefreshTokenStore;
 import com.sparta.eduwithme.util.JwtUtil;
 import com.sparta.eduwithme.util.RedisUtil;
+import com.sparta.eduwithme.util.TransactionUtil;
 import java.util.UUID;
 import com.vane.badwordfiltering.BadWordFiltering;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +45,15 @@ public class UserService {
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final RoomRepository roomRepository;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final QuestionCache questionCache;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final ReviewScheduleStore reviewScheduleStore;
+    private final LeaderboardStore leaderboardStore;
+    private final PointPercentileTracker pointPercentileTracker;
+    private final LearningStatusRepository learningStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final BadWordFiltering badWordFiltering = new BadWordFiltering();
 
@@ -53,20 +76,38 @@ public class UserService {
         redisUtil.setDataExpire(email, "VERIFIED", 60 * 5L);
     }
 
+    // 리프레시 토큰 rotation => users 테이블에는 쓰지 않고 RefreshTokenStore 의 family 만 교체
     public void accessTokenReissue(String refreshToken, HttpServletResponse res) {
-        Claims info = jwtUtil.getUserInfoFromToken(jwtUtil.refreshTokenSubstring(refreshToken));
+        String originalRefreshToken = jwtUtil.refreshTokenSubstring(refreshToken);
+        if (originalRefreshToken == null || !jwtUtil.validateToken(originalRefreshToken)) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        Claims info = jwtUtil.getUserInfoFromToken(originalRefreshToken);
+        String familyId = info.get(JwtUtil.FAMILY_KEY, String.class);
+        if (familyId == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
 
-        User user = userRepository.findByEmail(info.getSubject()).orElseThrow(
+        User user = principalCache.get(info.getSubject(), email -> userRepository.findByEmail(email).orElseThrow(
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND)
+        ));
+
+        String newRefreshToken = jwtUtil.createRefreshToken(user, familyId);
+        boolean rotated = refreshTokenStore.rotate(
+                user.getEmail(),
+                familyId,
+                jwtUtil.tokenDigest(originalRefreshToken),
+                jwtUtil.tokenDigest(jwtUtil.refreshTokenSubstring(newRefreshToken)),
+                JwtUtil.REFRESH_TOKEN_TIME
         );
+        if (!rotated) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
 
         String newAccessToken = jwtUtil.createAccessToken(user);
-        String newRefreshToken = jwtUtil.createRefreshToken(user);
         res.addHeader(JwtUtil.ACCESS_TOKEN_HEADER, newAccessToken);
         res.addHeader(JwtUtil.REFRESH_TOKEN_HEADER, newRefreshToken);
-        String newRefreshTokenOriginal = jwtUtil.refreshTokenSubstring(newRefreshToken);
-        user.updateRefreshToken(newRefreshTokenOriginal);
-
     }
 
     // 회원가입 처리 메서드
@@ -92,6 +133,7 @@ public class UserService {
 
         userRepository.save(new User(email, password, nickName));
         redisUtil.deleteData(email);
+        TransactionUtil.afterCommit(pointPercentileTracker::onUserAdded);
     }
 
     // 주어진 이메일이 등록된 이메일인지 확인하는 메서드
@@ -120,6 +162,8 @@ public class UserService {
         String tempPassword = generateTempPassword();
         user.updatePassword(passwordEncoder.encode(tempPassword));
         userRepository.save(user);
+        principalCache.evict(email);
+        refreshTokenStore.revokeAll(email);
 
         mailSendService.sendTempPassword(email, tempPassword);
 
@@ -142,7 +186,23 @@ public class UserService {
 
         // 사용자가 생성한 방 삭제
         List<Room> userRooms = roomRepository.findAllByManagerUserId(userId);
+        // 삭제되는 방의 문제를 푼 다른 사용자의 합계는 커밋 후 다시 계산
+        Set<Long> affectedUserIds = new HashSet<>();
+        userRooms.forEach(room -> affectedUserIds.addAll(learningStatusRepository.findUserIdsByRoomId(room.getId())));
+        affectedUserIds.remove(userId);
+        // 순위표에서 뺄 방 (방을 지우기 전에 조회)
+        List<Long> solvedRoomIds = learningStatusRepository.findRoomIdsByUserIdAndQuestionType(userId, QuestionType.SOLVE);
         roomRepository.deleteAll(userRooms);
+        eventPublisher.publishEvent(new UserTotalsStaleEvent(affectedUserIds));
+        userRooms.forEach(room -> {
+            questionCache.evictRoom(room.getId());
+            questionSearchIndex.onRoomDeleted(room.getId());
+        });
+        TransactionUtil.afterCommit(() -> {
+            userRooms.forEach(room -> leaderboardStore.removeRoom(room.getId()));
+            leaderboardStore.removeUser(userId, solvedRoomIds);
+            pointPercentileTracker.onUserRemoved(user.getTotalPoints());
+        });
 
         studentRepository.deleteAllByUserId(userId);
 
@@ -157,6 +217,9 @@ public class UserService {
 
         // 마지막으로 사용자 삭제
         userRepository.delete(user);
+        principalCache.evict(user.getEmail());
+        refreshTokenStore.revokeAll(user.getEmail());
+        reviewScheduleStore.removeAll(userId);
     }
 }
 
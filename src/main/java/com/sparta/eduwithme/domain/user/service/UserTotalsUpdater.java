@@ -0,0 +1,56 @@
+package com.sparta.eduwithme.domain.user.service;
+
+import com.sparta.eduwithme.domain.profile.ranking.PointPercentileTracker;
+import com.sparta.eduwithme.domain.question.event.LearningStatusAppliedEvent;
+import com.sparta.eduwithme.domain.user.UserTotalsJdbcRepository;
+import com.sparta.eduwithme.domain.user.UserTotalsJdbcRepository.PointChange;
+import com.sparta.eduwithme.domain.user.event.UserTotalsStaleEvent;
+import com.sparta.eduwithme.util.TransactionUtil;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 포인트 합계 / 정답 수 / 오답 수 유지.
+ * learning_status 가 반영되면 같은 트랜잭션 안에서 증감하고(프로필 조회 시 SUM 집계 없음),
+ * 배점 변경이나 삭제로 증감을 맞출 수 없게 되면 커밋 후 해당 사용자만 learning_status 로 다시 계산한다.
+ */
+@Slf4j(topic = "UserTotalsUpdater")
+@Component
+@RequiredArgsConstructor
+public class UserTotalsUpdater {
+
+    private static final int RECOMPUTE_CHUNK_SIZE = 500;
+
+    private final UserTotalsJdbcRepository userTotalsJdbcRepository;
+    private final PointPercentileTracker pointPercentileTracker;
+
+    @EventListener
+    public void onLearningStatusApplied(LearningStatusAppliedEvent event) {
+        List<PointChange> changes = userTotalsJdbcRepository.applyOutcomes(event.getOutcomes());
+        // 포인트 분포는 재구성과 같은 값(users.total_points)의 전 / 후로 갱신
+        if (!changes.isEmpty()) {
+            TransactionUtil.afterCommit(() -> changes.forEach(
+                change -> pointPercentileTracker.onPointsChanged(change.before(), change.after())));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserTotalsStale(UserTotalsStaleEvent event) {
+        List<Long> userIds = new ArrayList<>(event.getUserIds());
+        for (int from = 0; from < userIds.size(); from += RECOMPUTE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECOMPUTE_CHUNK_SIZE, userIds.size()));
+            try {
+                userTotalsJdbcRepository.recompute(chunk);
+            } catch (DataAccessException e) {
+                log.error("user totals recompute failed: userIds={}", chunk, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.eduwithme.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 테스트/로컬용 (jwt.refresh-token.store=memory)
+@Slf4j(topic = "InMemoryRefreshTokenStore")
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentHashMap<String, Family> families = new ConcurrentHashMap<>();
+
+    @Override
+    public void createFamily(String subject, String familyId, String tokenDigest, long ttlMillis) {
+        families.put(familyId, new Family(subject, tokenDigest, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public boolean rotate(String subject, String familyId, String presentedDigest, String newDigest, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        AtomicBoolean rotated = new AtomicBoolean(false);
+        families.computeIfPresent(familyId, (id, family) -> {
+            if (family.expiresAt() <= now) {
+                return null;
+            }
+            if (!family.tokenDigest().equals(presentedDigest)) {
+                log.warn("refresh token reuse detected, family revoked: {}", familyId);
+                return null;
+            }
+            rotated.set(true);
+            return new Family(family.subject(), newDigest, now + ttlMillis);
+        });
+        return rotated.get();
+    }
+
+    @Override
+    public void revokeAll(String subject) {
+        families.values().removeIf(family -> family.subject().equals(subject));
+    }
+
+    private record Family(String subject, String tokenDigest, long expiresAt) {
+    }
+}
@@ -1,8 +1,9 @@
 package com.sparta.eduwithme.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
 import com.sparta.eduwithme.common.response.StatusCommonResponse;
-import com.sparta.eduwithme.domain.user.UserRepository;
 import com.sparta.eduwithme.domain.user.dto.LoginRequestDto;
 import com.sparta.eduwithme.domain.user.entity.User;
 import com.sparta.eduwithme.util.JwtUtil;
@@ -11,7 +12,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationServiceException;
@@ -23,12 +26,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Slf4j(topic = "JwtAuthenticationFilter")
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final String LOGIN_PERMITS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".permits";
+
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, RefreshTokenStore refreshTokenStore, LoginRateLimiter loginRateLimiter) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginRateLimiter = loginRateLimiter;
         setFilterProcessesUrl("/api/users/login");
     }
 
@@ -45,6 +52,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         try {
             LoginRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), LoginRequestDto.class);
 
+            // BCrypt 검증 전에 IP / 이메일 기준 시도 횟수 제한 (성공하면 successfulAuthentication 에서 되돌린다)
+            List<LoginRateLimiter.Permit> permits = loginRateLimiter.tryAcquire(request.getRemoteAddr(), requestDto.getEmail());
+            if (permits == null) {
+                throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+            }
+            request.setAttribute(LOGIN_PERMITS_ATTRIBUTE, permits);
+
             return getAuthenticationManager().authenticate(
                 new UsernamePasswordAuthenticationToken(
                     requestDto.getEmail(),
@@ -54,6 +68,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             );
         } catch (IOException e) {
             throw new RuntimeException(e.getMessage());
+        } catch (CustomException e) {
+            // 해싱 풀 포화 등 인증 이전 단계의 거절 => unsuccessfulAuthentication 에서 상태코드로 변환
+            throw new AuthenticationServiceException(e.getMessage(), e);
         }
     }
 
@@ -64,11 +81,14 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         FilterChain chain,
         Authentication authResult) throws IOException, ServletException
     {
+        releaseLoginPermits(request);
+
         User user = ((UserDetailsImpl) authResult.getPrincipal()).getUser();
         String accessToken = jwtUtil.createAccessToken(user);
-        String refreshToken = jwtUtil.createRefreshToken(user);
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtUtil.createRefreshToken(user, familyId);
 
-        updateRefreshToken(user, refreshToken);
+        saveRefreshToken(user, familyId, refreshToken);
 
         StatusCommonResponse responseDto = new StatusCommonResponse(HttpStatus.OK.value(), "로그인이 성공적으로 되었습니다.");
 
@@ -82,11 +102,23 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         response.getWriter().write(jsonResponse);
     }
 
-    private void updateRefreshToken(User user, String refreshToken) {
+    @SuppressWarnings("unchecked")
+    private void releaseLoginPermits(HttpServletRequest request) {
+        Object permits = request.getAttribute(LOGIN_PERMITS_ATTRIBUTE);
+        if (permits instanceof List<?> list) {
+            loginRateLimiter.release((List<LoginRateLimiter.Permit>) list);
+        }
+    }
+
+    private void saveRefreshToken(User user, String familyId, String refreshToken) {
         String originalRefreshToken = jwtUtil.refreshTokenSubstring(refreshToken);
-        user.updateRefreshToken(originalRefreshToken);
-        userRepository.save(user);
-        log.info("{}", "[로그인 시점][DB] refreshToken 업데이트 성공");
+        refreshTokenStore.createFamily(
+            user.getEmail(),
+            familyId,
+            jwtUtil.tokenDigest(originalRefreshToken),
+            JwtUtil.REFRESH_TOKEN_TIME
+        );
+        log.info("{}", "[로그인 시점] refreshToken 저장 성공");
     }
 
     @Override
@@ -94,6 +126,16 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         HttpServletRequest request,
         HttpServletResponse response,
         AuthenticationException failed) throws ServletException, IOException {
+        // 요청 폭주로 인한 거절(429)만 그대로 내려주고, 그 외 인증 실패는 기존처럼 401
+        if (failed.getCause() instanceof CustomException customException
+            && customException.getErrorCode().getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            int status = customException.getErrorCode().getStatus().value();
+            StatusCommonResponse responseDto = new StatusCommonResponse(status, customException.getErrorCode().getMessage());
+            response.setStatus(status);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(new ObjectMapper().writeValueAsString(responseDto));
+            return;
+        }
         response.setStatus(401);
     }
 }
@@ -22,10 +22,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final boolean claimsOnly;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, PrincipalCache principalCache,
+                                  boolean claimsOnly) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.principalCache = principalCache;
+        this.claimsOnly = claimsOnly;
     }
 
     @Override
@@ -33,25 +38,34 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String tokenValue = jwtUtil.getJwtFromHeader(request);
 
         if (StringUtils.hasText(tokenValue)) {
-            if (!jwtUtil.validateToken(tokenValue)) {
+            Claims info = jwtUtil.getVerifiedClaims(tokenValue);
+            if (info == null) {
                 log.error("{}", "TokenError");
                 return;
             }
-            Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
-            setAuthentication(info.getSubject());
+            setAuthentication(info);
         }
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(String email) {
-        Authentication authentication = createAuthentication(email);
+    private void setAuthentication(Claims info) {
+        Authentication authentication = createAuthentication(info);
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
     }
 
-    private Authentication createAuthentication(String email) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    private Authentication createAuthentication(Claims info) {
+        UserDetails userDetails = loadUserDetails(info);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
+
+    // claims-only 모드에서는 검증된 클레임으로 바로 인증 주체를 만들고, 그 외에는 DB(캐시)에서 조회
+    // 토큰 발급 뒤 닉네임 변경 / 비밀번호 변경 / 탈퇴가 있었으면 클레임을 믿지 않고 DB 로 확인한다
+    private UserDetails loadUserDetails(Claims info) {
+        if (claimsOnly && jwtUtil.hasProfileClaims(info) && !principalCache.changedSince(info.getSubject(), info.getIssuedAt())) {
+            return new UserDetailsImpl(jwtUtil.getUserFromClaims(info));
+        }
+        return userDetailsService.loadUserByUsername(info.getSubject());
+    }
 }
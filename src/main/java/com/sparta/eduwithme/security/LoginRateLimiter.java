@@ -0,0 +1,220 @@
+package com.sparta.eduwithme.security;
+
+import com.sparta.eduwithme.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 로그인 시도 sliding window 제한 (IP 별, 이메일 별).
+ * AuthenticationManager 가 BCrypt 검증을 하기 전에 호출해서 credential stuffing 이 CPU 를 쓰지 못하게 한다.
+ * 시도는 먼저 세고, 로그인에 성공하면 release 로 되돌려서 실패한 시도만 한도에 남긴다
+ * (같은 NAT 뒤의 한 반 전체가 정상 로그인해도 막히지 않는다, IP 는 server.forward-headers-strategy 로 프록시 뒤 원래 주소).
+ * Redis 가 실패하거나 느리면 잠시 동안 인스턴스 로컬 카운터로 대신 판단한다.
+ */
+@Slf4j(topic = "LoginRateLimiter")
+@Component
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "login:attempts:";
+    private static final int MAX_LOCAL_KEYS = 100_000;
+
+    // ARGV: now, window(ms), limit, member => 1 허용, 0 거절
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2])) " +
+        "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then return 0 end " +
+        "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4]) " +
+        "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+        "return 1",
+        Long.class
+    );
+
+    private final RedisUtil redisUtil;
+    private final long windowMillis;
+    private final int maxPerIp;
+    private final int maxPerEmail;
+    private final long redisSlowMillis;
+    private final long redisCooldownMillis;
+
+    private final AtomicLong redisBypassUntil = new AtomicLong();
+    private final ConcurrentHashMap<String, AtomicReference<Window>> localWindows = new ConcurrentHashMap<>();
+
+    private final Counter admittedRedis;
+    private final Counter admittedLocal;
+    private final Counter rejectedRedis;
+    private final Counter rejectedLocal;
+
+    public LoginRateLimiter(RedisUtil redisUtil,
+                            MeterRegistry meterRegistry,
+                            @Value("${security.login-limit.window-seconds:60}") long windowSeconds,
+                            @Value("${security.login-limit.max-per-ip:30}") int maxPerIp,
+                            @Value("${security.login-limit.max-per-email:10}") int maxPerEmail,
+                            @Value("${security.login-limit.redis-slow-millis:50}") long redisSlowMillis,
+                            @Value("${security.login-limit.redis-cooldown-seconds:30}") long redisCooldownSeconds) {
+        this.redisUtil = redisUtil;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.maxPerIp = maxPerIp;
+        this.maxPerEmail = maxPerEmail;
+        this.redisSlowMillis = redisSlowMillis;
+        this.redisCooldownMillis = TimeUnit.SECONDS.toMillis(redisCooldownSeconds);
+
+        this.admittedRedis = counter(meterRegistry, "admitted", "redis");
+        this.admittedLocal = counter(meterRegistry, "admitted", "local");
+        this.rejectedRedis = counter(meterRegistry, "rejected", "redis");
+        this.rejectedLocal = counter(meterRegistry, "rejected", "local");
+    }
+
+    // null => 거절, 허용이면 로그인 성공 시 release 로 돌려줄 시도 목록
+    public List<Permit> tryAcquire(String ip, String email) {
+        List<Permit> permits = new ArrayList<>(2);
+        Permit ipPermit = tryAcquire("ip:" + ip, maxPerIp);
+        if (ipPermit == null) {
+            return null;
+        }
+        permits.add(ipPermit);
+        if (StringUtils.hasText(email)) {
+            Permit emailPermit = tryAcquire("email:" + email.trim().toLowerCase(Locale.ROOT), maxPerEmail);
+            if (emailPermit == null) {
+                return null;
+            }
+            permits.add(emailPermit);
+        }
+        return permits;
+    }
+
+    // 로그인 성공 => 성공한 시도는 한도에서 뺀다
+    public void release(List<Permit> permits) {
+        for (Permit permit : permits) {
+            if (permit.member() == null) {
+                releaseLocal(permit.key(), permit.acquiredAt());
+                continue;
+            }
+            try {
+                redisUtil.removeSortedSetMember(KEY_PREFIX + permit.key(), permit.member());
+            } catch (RuntimeException e) {
+                log.warn("login limiter release failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Permit tryAcquire(String key, int limit) {
+        long now = System.currentTimeMillis();
+        if (now >= redisBypassUntil.get()) {
+            String member = now + ":" + UUID.randomUUID();
+            Boolean admitted = tryAcquireRedis(key, limit, now, member);
+            if (admitted != null) {
+                (admitted ? admittedRedis : rejectedRedis).increment();
+                return admitted ? new Permit(key, member, now) : null;
+            }
+        }
+        boolean admitted = tryAcquireLocal(key, limit, now);
+        (admitted ? admittedLocal : rejectedLocal).increment();
+        return admitted ? new Permit(key, null, now) : null;
+    }
+
+    // null => Redis 사용 불가 (로컬 판단으로 대체)
+    private Boolean tryAcquireRedis(String key, int limit, long now, String member) {
+        long startedAt = System.nanoTime();
+        try {
+            Long result = redisUtil.executeScript(
+                SLIDING_WINDOW_SCRIPT,
+                List.of(KEY_PREFIX + key),
+                String.valueOf(now), String.valueOf(windowMillis), String.valueOf(limit), member
+            );
+            if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) > redisSlowMillis) {
+                bypassRedis("slow response");
+            }
+            return result != null && result == 1L;
+        } catch (RuntimeException e) {
+            bypassRedis(e.getMessage());
+            return null;
+        }
+    }
+
+    private void bypassRedis(String reason) {
+        redisBypassUntil.set(System.currentTimeMillis() + redisCooldownMillis);
+        log.warn("login limiter falls back to local windows for {}ms: {}", redisCooldownMillis, reason);
+    }
+
+    /**
+     * 직전 window 와 현재 window 카운트를 가중합하는 근사 sliding window.
+     * 키마다 불변 Window 를 CAS 로 교체하므로 락이 없다.
+     */
+    private boolean tryAcquireLocal(String key, int limit, long now) {
+        long windowStart = now - (now % windowMillis);
+        if (localWindows.size() > MAX_LOCAL_KEYS) {
+            localWindows.values().removeIf(ref -> ref.get().start() < windowStart - windowMillis);
+        }
+
+        AtomicReference<Window> ref = localWindows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(windowStart, 0, 0)));
+        while (true) {
+            Window current = ref.get();
+            Window rolled = current.rollTo(windowStart, windowMillis);
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMillis;
+            double estimated = rolled.previous() * previousWeight + rolled.current();
+            if (estimated >= limit) {
+                ref.compareAndSet(current, rolled);
+                return false;
+            }
+            if (ref.compareAndSet(current, new Window(rolled.start(), rolled.previous(), rolled.current() + 1))) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseLocal(String key, long acquiredAt) {
+        AtomicReference<Window> ref = localWindows.get(key);
+        if (ref != null) {
+            long acquiredWindowStart = acquiredAt - (acquiredAt % windowMillis);
+            ref.updateAndGet(window -> window.release(acquiredWindowStart, windowMillis));
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result, String source) {
+        return Counter.builder("login.attempts")
+            .tag("result", result)
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    private record Window(long start, int previous, int current) {
+
+        Window rollTo(long windowStart, long windowMillis) {
+            if (start == windowStart) {
+                return this;
+            }
+            if (start == windowStart - windowMillis) {
+                return new Window(windowStart, current, 0);
+            }
+            return new Window(windowStart, 0, 0);
+        }
+
+        // 시도를 센 window 가 아직 현재 / 직전이면 하나 뺀다
+        Window release(long acquiredWindowStart, long windowMillis) {
+            if (start == acquiredWindowStart && current > 0) {
+                return new Window(start, previous, current - 1);
+            }
+            if (start == acquiredWindowStart + windowMillis && previous > 0) {
+                return new Window(start, previous - 1, current);
+            }
+            return this;
+        }
+    }
+
+    // member == null => 로컬 window 에서 센 시도
+    public record Permit(String key, String member, long acquiredAt) {
+    }
+}
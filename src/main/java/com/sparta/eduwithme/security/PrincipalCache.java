@@ -0,0 +1,70 @@
+package com.sparta.eduwithme.security;
+
+import com.sparta.eduwithme.common.cache.LocalCache;
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.util.JwtUtil;
+import com.sparta.eduwithme.util.TransactionUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 subject(email) 기준으로 인증 주체(User)를 보관하는 캐시.
+ * 매 요청마다 users 테이블을 조회하지 않도록 JwtAuthorizationFilter 앞단에서 사용한다.
+ * 유저 정보가 바뀌는 곳에서는 반드시 evict 를 호출해야 한다.
+ * evict 시각은 액세스 토큰 수명만큼 따로 남겨서, claims-only 인가가 그 전에 발급된 토큰의 클레임을 믿지 않게 한다.
+ * 이 표시는 크기 제한으로 밀려나면 안 되므로(밀려나면 탈퇴 / 비밀번호 변경 전 토큰을 믿게 된다) LRU 캐시가 아니라
+ * 시간으로만 정리하는 map 에 둔다. 토큰 수명이 지난 표시는 어차피 그 전에 발급된 토큰이 모두 만료되었으므로 지워도 된다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final LocalCache<String, User> cache;
+    // email -> 마지막으로 유저 정보가 바뀐(탈퇴 포함) 시각
+    private final ConcurrentHashMap<String, Long> changedAt = new ConcurrentHashMap<>();
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new LocalCache<>("principal", maxSize, Duration.ofSeconds(ttlSeconds));
+        this.cache.bindTo(meterRegistry);
+        Gauge.builder("principal.changed-at.size", changedAt, Map::size).register(meterRegistry);
+    }
+
+    public User get(String email, Function<String, User> loader) {
+        return cache.get(email, loader);
+    }
+
+    // 즉시 제거 + 커밋 이후 한 번 더 제거 (커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우 방지)
+    public void evict(String email) {
+        cache.invalidate(email);
+        changedAt.merge(email, System.currentTimeMillis(), Math::max);
+        TransactionUtil.afterCommit(() -> {
+            cache.invalidate(email);
+            changedAt.merge(email, System.currentTimeMillis(), Math::max);
+        });
+    }
+
+    // issuedAt(초 단위로 내림) 이후에 유저 정보가 바뀌었을 수 있으면 true => 토큰 클레임 대신 DB(캐시) 조회
+    public boolean changedSince(String email, Date issuedAt) {
+        if (issuedAt == null) {
+            return true;
+        }
+        Long changed = changedAt.getIfPresent(email);
+        return changed != null && issuedAt.getTime() <= changed;
+    }
+
+    // 액세스 토큰 수명보다 오래된 표시 정리
+    @Scheduled(fixedDelayString = "${security.principal-cache.changed-at-prune-interval-millis:60000}")
+    public void pruneChangedAt() {
+        long cutoff = System.currentTimeMillis() - JwtUtil.ACCESS_TOKEN_TIME;
+        changedAt.values().removeIf(changed -> changed < cutoff);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sparta.eduwithme.security;
+
+import com.sparta.eduwithme.util.RedisUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Slf4j(topic = "RedisRefreshTokenStore")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String FAMILY_PREFIX = "refresh:family:";
+    private static final String USER_PREFIX = "refresh:user:";
+
+    // KEYS => family, 유저 family 목록 / ARGV => 제출 digest, 새 digest, ttl, familyId
+    // 1 => 교체 성공, 0 => family 없음(만료/폐기), -1 => 재사용 감지로 family 폐기
+    // 교체할 때 유저 family 목록도 같은 ttl 로 늘려서 revokeAll 이 계속 이어진 family 를 찾을 수 있게 한다
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('GET', KEYS[1]) " +
+        "if not current then return 0 end " +
+        "if current == ARGV[1] then " +
+        "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+        "  redis.call('SADD', KEYS[2], ARGV[4]) " +
+        "  local ttl = redis.call('PTTL', KEYS[2]) " +
+        "  if ttl < tonumber(ARGV[3]) then redis.call('PEXPIRE', KEYS[2], ARGV[3]) end " +
+        "  return 1 " +
+        "end " +
+        "redis.call('DEL', KEYS[1]) " +
+        "return -1",
+        Long.class
+    );
+
+    private final RedisUtil redisUtil;
+
+    @Override
+    public void createFamily(String subject, String familyId, String tokenDigest, long ttlMillis) {
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        redisUtil.setDataExpire(FAMILY_PREFIX + familyId, tokenDigest, ttl);
+        redisUtil.addSetMember(USER_PREFIX + subject, familyId, ttl);
+    }
+
+    @Override
+    public boolean rotate(String subject, String familyId, String presentedDigest, String newDigest, long ttlMillis) {
+        Long result = redisUtil.executeScript(
+            ROTATE_SCRIPT,
+            List.of(FAMILY_PREFIX + familyId, USER_PREFIX + subject),
+            presentedDigest, newDigest, String.valueOf(ttlMillis), familyId
+        );
+        if (result != null && result < 0) {
+            log.warn("refresh token reuse detected, family revoked: {}", familyId);
+        }
+        return result != null && result > 0;
+    }
+
+    @Override
+    public void revokeAll(String subject) {
+        Set<String> familyIds = redisUtil.getSetMembers(USER_PREFIX + subject);
+        if (familyIds != null && !familyIds.isEmpty()) {
+            redisUtil.deleteData(familyIds.stream().map(familyId -> FAMILY_PREFIX + familyId).toList());
+        }
+        redisUtil.deleteData(USER_PREFIX + subject);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.eduwithme.security;
+
+/**
+ * 리프레시 토큰 저장소.
+ * 로그인 한 번이 하나의 family 를 만들고, 재발급(rotation) 때마다 family 의 현재 토큰 digest 만 교체한다.
+ * 이미 교체된 토큰이 다시 제출되면(탈취 의심) family 전체를 폐기한다.
+ */
+public interface RefreshTokenStore {
+
+    // 로그인 시점에 새 family 등록
+    void createFamily(String subject, String familyId, String tokenDigest, long ttlMillis);
+
+    // presentedDigest 가 family 의 현재 토큰이면 newDigest 로 교체하고 true, 아니면 family 를 폐기하고 false
+    // 교체된 family 는 ttlMillis 동안 revokeAll(subject) 대상으로 남는다
+    boolean rotate(String subject, String familyId, String presentedDigest, String newDigest, long ttlMillis);
+
+    // 비밀번호 변경, 회원 탈퇴 시 해당 유저의 모든 family 폐기
+    void revokeAll(String subject);
+}
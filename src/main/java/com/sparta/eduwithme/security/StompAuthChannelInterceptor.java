@@ -0,0 +1,55 @@
+package com.sparta.eduwithme.security;
+
+import com.sparta.eduwithme.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * STOMP CONNECT 프레임의 AccessToken 헤더로 세션 사용자를 지정.
+ * 연결할 때 한 번만 인증하므로 이후 메시지(@MessageMapping)는 세션의 Principal 을 그대로 쓴다.
+ * 토큰이 없으면 익명 세션으로 연결한다 (기존 채팅은 토큰 없이 동작).
+ */
+@Slf4j(topic = "StompAuthChannelInterceptor")
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsServiceImpl userDetailsService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String bearerToken = accessor.getFirstNativeHeader(JwtUtil.ACCESS_TOKEN_HEADER);
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(JwtUtil.BEARER_PREFIX)) {
+            return message;
+        }
+        try {
+            Claims info = jwtUtil.getVerifiedClaims(bearerToken.substring(JwtUtil.BEARER_PREFIX.length()));
+            if (info == null) {
+                return message;
+            }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(info.getSubject());
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        } catch (RuntimeException e) {
+            // 만료 / 탈퇴한 사용자 => 익명 세션
+            log.warn("stomp connect with invalid token: {}", e.getMessage());
+        }
+        return message;
+    }
+}
@@ -16,12 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email).orElseThrow(
+        User user = principalCache.get(email, key -> userRepository.findByEmail(key).orElseThrow(
             () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
+        ));
         return new UserDetailsImpl(user);
     }
 }
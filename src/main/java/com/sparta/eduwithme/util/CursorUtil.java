@@ -0,0 +1,47 @@
+package com.sparta.eduwithme.util;
+
+import com.sparta.eduwithme.common.exception.CustomException;
+import com.sparta.eduwithme.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * keyset 페이지 커서 인코딩 (정렬 키 값들을 이어 붙여 URL-safe Base64 로 감싼 불투명 문자열)
+ */
+public final class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(Object... keys) {
+        String raw = Arrays.stream(keys).map(Objects::toString).collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 정렬 키가 id 하나뿐인 커서
+    public static long decodeLong(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\|", -1);
+            if (keys.length != expectedKeys) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
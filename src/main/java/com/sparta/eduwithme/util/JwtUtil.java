@@ -1,19 +1,29 @@
 package com.sparta.eduwithme.util;
 
+import com.sparta.eduwithme.common.cache.LocalCache;
 import com.sparta.eduwithme.domain.user.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -21,43 +31,70 @@ import org.springframework.util.StringUtils;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     public static final String ACCESS_TOKEN_HEADER = "AccessToken";
     public static final String REFRESH_TOKEN_HEADER = "RefreshToken";
     public static final String BEARER_PREFIX = "Bearer ";
-    public static final long ACCESS_TOKEN_TIME = 1209600000; // 기존 1800000
+    // 30분 => 만료되면 리프레시 토큰 rotation 으로 재발급 (claims-only 인가가 이전 정보를 믿는 최대 기간)
+    public static final long ACCESS_TOKEN_TIME = 1800000;
     public static final long REFRESH_TOKEN_TIME = 1209600000;
+    public static final String USER_ID_KEY = "userId";
+    public static final String NICKNAME_KEY = "nickName";
+    public static final String FAMILY_KEY = "fid";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 검증된 토큰 digest -> Claims (토큰 만료 시각까지 보관)
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+    @Value("${jwt.verified-cache.ttl-seconds:600}")
+    private long verifiedCacheTtlSeconds;
+    private LocalCache<String, Claims> verifiedTokens;
+
+    private final MeterRegistry meterRegistry;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = new LocalCache<>("verified-token", verifiedCacheMaxSize, Duration.ofSeconds(verifiedCacheTtlSeconds));
+        verifiedTokens.bindTo(meterRegistry);
     }
 
-    private String createToken(User user, long tokenTime) {
+    private JwtBuilder tokenBuilder(User user, long tokenTime) {
         Date date = new Date();
 
-        return BEARER_PREFIX +
-            Jwts.builder()
-                .setSubject(user.getEmail()) // 사용자 식별자값(ID)
-                .setExpiration(new Date(date.getTime() + tokenTime)) // 만료 시간
-                .setIssuedAt(date) // 발급일
-                .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                .compact();
+        return Jwts.builder()
+            .setSubject(user.getEmail()) // 사용자 식별자값(ID)
+            .setExpiration(new Date(date.getTime() + tokenTime)) // 만료 시간
+            .setIssuedAt(date); // 발급일
     }
 
     public String createAccessToken(User user) {
-        return createToken(user, ACCESS_TOKEN_TIME);
+        return BEARER_PREFIX +
+            tokenBuilder(user, ACCESS_TOKEN_TIME)
+                // claims-only 인가 모드에서 DB 조회 없이 인증 주체를 만들 수 있도록 포함
+                .claim(USER_ID_KEY, user.getId())
+                .claim(NICKNAME_KEY, user.getNickName())
+                .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                .compact();
     }
 
-    public String createRefreshToken(User user) {
-        return createToken(user, REFRESH_TOKEN_TIME);
+    // familyId => 같은 로그인에서 이어지는 리프레시 토큰 묶음 (RefreshTokenStore 참고)
+    public String createRefreshToken(User user, String familyId) {
+        return BEARER_PREFIX +
+            tokenBuilder(user, REFRESH_TOKEN_TIME)
+                .setId(UUID.randomUUID().toString())
+                .claim(FAMILY_KEY, familyId)
+                .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                .compact();
     }
 
     public String getJwtFromHeader(HttpServletRequest request) {
@@ -77,9 +114,37 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 서명 검증 + 파싱은 토큰당 한 번만 하고, 이후 요청은 digest 조회 한 번으로 끝낸다.
+    // 유효하지 않은 토큰이면 null, 만료된 토큰이면 validateToken 과 동일하게 예외를 던진다.
+    public Claims getVerifiedClaims(String token) {
+        String digest = tokenDigest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parseClaims(token);
+        if (claims != null && claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims, claims.getExpiration().getTime());
+        }
+        return claims;
+    }
+
+    public String tokenDigest(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -90,11 +155,24 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
+        return null;
     }
 
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    // 프로필 클레임이 없는(이전 버전) 토큰이면 false
+    public boolean hasProfileClaims(Claims info) {
+        return info.get(USER_ID_KEY) != null && info.get(NICKNAME_KEY) != null;
+    }
+
+    public User getUserFromClaims(Claims info) {
+        return User.ofClaims(
+            info.get(USER_ID_KEY, Long.class),
+            info.getSubject(),
+            info.get(NICKNAME_KEY, String.class)
+        );
     }
 
 }
@@ -1,9 +1,14 @@
 package com.sparta.eduwithme.util;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -24,7 +29,54 @@ public class RedisUtil {
         Duration expireDuration= Duration.ofSeconds(duration);
         valueOperations.set(key,value,expireDuration);
     }
+    public void setDataExpire(String key,String value,Duration duration){//밀리초 단위 등 Duration 으로 만료시간을 지정하는 메서드
+        ValueOperations<String,String> valueOperations=redisTemplate.opsForValue();
+        valueOperations.set(key,value,duration);
+    }
     public void deleteData(String key){//지정된 키(key)에 해당하는 데이터를 Redis에서 삭제하는 메서드
         redisTemplate.delete(key);
     }
+    public void deleteData(Collection<String> keys){//여러 키를 한 번에 삭제하는 메서드
+        redisTemplate.delete(keys);
+    }
+    public void addSetMember(String key,String member,Duration duration){//Set 에 값을 추가하고 Set 전체의 만료시간을 갱신하는 메서드
+        redisTemplate.opsForSet().add(key,member);
+        redisTemplate.expire(key,duration);
+    }
+    public Set<String> getSetMembers(String key){//Set 의 모든 값을 가져오는 메서드
+        return redisTemplate.opsForSet().members(key);
+    }
+    public Set<ZSetOperations.TypedTuple<String>> rangeSortedSetByScore(String key,double min,double max,long offset,long count){//점수 구간의 Sorted Set 값을 점수 순으로 offset 부터 count 개 가져오는 메서드
+        return redisTemplate.opsForZSet().rangeByScoreWithScores(key,min,max,offset,count);
+    }
+    public Long countSortedSetByScore(String key,double min,double max){//점수 구간에 속한 Sorted Set 값의 개수를 세는 메서드
+        return redisTemplate.opsForZSet().count(key,min,max);
+    }
+    public void removeSortedSetMember(String key,String member){//Sorted Set 에서 값을 제거하는 메서드
+        redisTemplate.opsForZSet().remove(key,member);
+    }
+    public Long reverseRankOfSortedSet(String key,String member){//Sorted Set 에서 점수 내림차순 순위(0부터)를 가져오는 메서드, 없으면 null
+        return redisTemplate.opsForZSet().reverseRank(key,member);
+    }
+    public Set<ZSetOperations.TypedTuple<String>> reverseRangeSortedSetWithScores(String key,long start,long end){//점수 내림차순 start~end 순위의 Sorted Set 값을 점수와 함께 가져오는 메서드
+        return redisTemplate.opsForZSet().reverseRangeWithScores(key,start,end);
+    }
+    public Long sizeOfSortedSet(String key){//Sorted Set 의 크기를 가져오는 메서드
+        return redisTemplate.opsForZSet().zCard(key);
+    }
+    public void addSortedSetMembers(String key,Set<ZSetOperations.TypedTuple<String>> tuples){//Sorted Set 에 여러 값을 점수와 함께 한 번에 추가하는 메서드
+        redisTemplate.opsForZSet().add(key,tuples);
+    }
+    public void renameKey(String oldKey,String newKey){//키 이름을 원자적으로 바꾸는 메서드 (newKey 가 있으면 덮어쓴다)
+        redisTemplate.rename(oldKey,newKey);
+    }
+    public List<String> getHashValues(String key,Collection<String> fields){//Hash 에서 여러 필드의 값을 한 번에 가져오는 메서드
+        return redisTemplate.<String,String>opsForHash().multiGet(key,fields);
+    }
+    public void deleteHashField(String key,String field){//Hash 에서 필드를 제거하는 메서드
+        redisTemplate.opsForHash().delete(key,field);
+    }
+    public <T> T executeScript(RedisScript<T> script,List<String> keys,String... args){//Lua 스크립트를 원자적으로 실행하는 메서드
+        return redisTemplate.execute(script,keys,(Object[]) args);
+    }
 }
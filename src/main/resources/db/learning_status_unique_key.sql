@@ -0,0 +1,14 @@
+-- learning_status (question_id, user_id) unique key 추가 전 중복 행 정리
+-- 같은 (문제, 유저) 중 SOLVE 가 있으면 SOLVE 를, 같은 상태끼리는 가장 먼저 생긴 행을 남긴다
+DELETE ls
+FROM learning_status ls
+JOIN learning_status keep
+  ON keep.question_id = ls.question_id
+ AND keep.user_id = ls.user_id
+ AND (
+        (keep.question_type = 'SOLVE' AND ls.question_type = 'WRONG')
+     OR (keep.question_type = ls.question_type AND keep.id < ls.id)
+ );
+
+ALTER TABLE learning_status
+    ADD CONSTRAINT uk_learning_status_question_user UNIQUE (question_id, user_id);
@@ -0,0 +1,33 @@
+-- IDENTITY -> pooled(table) id 생성기 전환 (IdAllocation.ALLOCATION_SIZE = 50)
+-- 반드시 새 버전을 배포하기 전에, 애플리케이션을 멈춘 상태에서 실행한다.
+-- (ddl-auto=update 가 먼저 *_seq 테이블을 만들면 next_val 이 1 로 시작해 기존 id 와 충돌한다)
+-- pooled optimizer 는 읽은 값 v 에 대해 (v - 50, v] 구간을 발급하므로 MAX(id) + 50 + 1 로 시드한다.
+-- learning_status 는 native upsert 로만 insert 하므로 AUTO_INCREMENT 를 그대로 사용한다.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT);
+DELETE FROM users_seq;
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE IF NOT EXISTS rooms_seq (next_val BIGINT);
+DELETE FROM rooms_seq;
+INSERT INTO rooms_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM rooms;
+
+CREATE TABLE IF NOT EXISTS students_seq (next_val BIGINT);
+DELETE FROM students_seq;
+INSERT INTO students_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM students;
+
+CREATE TABLE IF NOT EXISTS questions_seq (next_val BIGINT);
+DELETE FROM questions_seq;
+INSERT INTO questions_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM questions;
+
+CREATE TABLE IF NOT EXISTS answers_seq (next_val BIGINT);
+DELETE FROM answers_seq;
+INSERT INTO answers_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM answers;
+
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT);
+DELETE FROM comments_seq;
+INSERT INTO comments_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM comments;
+
+CREATE TABLE IF NOT EXISTS chats_seq (next_val BIGINT);
+DELETE FROM chats_seq;
+INSERT INTO chats_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM chats;
@@ -0,0 +1,7 @@
+-- users.total_points / solved_count / wrong_count 초기 채우기
+-- 컬럼은 엔티티(ddl-auto) 로 추가된 뒤 한 번 실행, 이후는 UserTotalsUpdater 가 유지
+UPDATE users u SET
+    total_points = (SELECT COALESCE(SUM(q.point), 0) FROM learning_status ls JOIN questions q ON q.id = ls.question_id
+                    WHERE ls.user_id = u.id AND ls.question_type = 'SOLVE'),
+    solved_count = (SELECT COUNT(*) FROM learning_status ls WHERE ls.user_id = u.id AND ls.question_type = 'SOLVE'),
+    wrong_count  = (SELECT COUNT(*) FROM learning_status ls WHERE ls.user_id = u.id AND ls.question_type = 'WRONG');
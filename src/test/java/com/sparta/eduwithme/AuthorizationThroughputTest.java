@@ -0,0 +1,100 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.eduwithme.common.diagnostics.SqlStatementCounter;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.security.JwtAuthorizationFilter;
+import com.sparta.eduwithme.security.PrincipalCache;
+import com.sparta.eduwithme.security.UserDetailsImpl;
+import com.sparta.eduwithme.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 인가 필터 처리량 비교 (DB 조회 vs claims-only).
+ * 같은 토큰으로 요청을 N 번 통과시켜, claims-only 모드는 SQL 없이 같은 사용자로 인증하고 DB 조회 방식보다 빠른지 확인한다.
+ * DB 조회 쪽은 principal 캐시 없이 요청마다 사용자를 읽던 기존 방식 그대로 둔다.
+ * 요청 수는 -Dauthorization.requests=N 으로 조절.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuthorizationThroughputTest {
+
+    private static final int REQUESTS = Integer.getInteger("authorization.requests", 2_000);
+    private static final int WARM_UP = 200;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private PrincipalCache principalCache;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private User user;
+    private String accessToken;
+
+    @BeforeAll
+    void seed() {
+        user = userRepository.save(new User("authorization@test.com", "password", "authorization"));
+        accessToken = jwtUtil.createAccessToken(user);
+    }
+
+    @Test
+    void claimsOnlyAuthorizationSkipsDatabaseAndIsFaster() throws Exception {
+        JwtAuthorizationFilter dbBacked = new JwtAuthorizationFilter(jwtUtil,
+            email -> new UserDetailsImpl(userRepository.findByEmail(email).orElseThrow()), principalCache, false);
+        JwtAuthorizationFilter claimsOnly = new JwtAuthorizationFilter(jwtUtil,
+            email -> {
+                throw new AssertionError("claims-only 모드에서 사용자 조회: " + email);
+            }, principalCache, true);
+
+        run(dbBacked, WARM_UP);
+        run(claimsOnly, WARM_UP);
+
+        Run db = run(dbBacked, REQUESTS);
+        Run claims = run(claimsOnly, REQUESTS);
+
+        assertThat(db.statements()).as("db-backed statements").isEqualTo(REQUESTS);
+        assertThat(claims.statements()).as("claims-only statements").isZero();
+        assertThat(claims.nanos())
+            .as("%d requests: claims-only %d ms, db-backed %d ms", REQUESTS, claims.nanos() / 1_000_000, db.nanos() / 1_000_000)
+            .isLessThan(db.nanos());
+    }
+
+    private Run run(JwtAuthorizationFilter filter, int requests) throws Exception {
+        FilterChain chain = (request, response) -> {
+            UserDetailsImpl principal = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertThat(principal.getUser().getId()).isEqualTo(user.getId());
+        };
+
+        sqlStatementCounter.start();
+        try {
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profiles");
+                request.addHeader(JwtUtil.ACCESS_TOKEN_HEADER, accessToken);
+                filter.doFilter(request, new MockHttpServletResponse(), chain);
+                SecurityContextHolder.clearContext();
+            }
+            return new Run(System.nanoTime() - startedAt, sqlStatementCounter.current());
+        } finally {
+            sqlStatementCounter.stop();
+        }
+    }
+
+    private record Run(long nanos, int statements) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.eduwithme.common.diagnostics.SqlStatementCounter;
+import com.sparta.eduwithme.domain.chat.ChatRepository;
+import com.sparta.eduwithme.domain.chat.entity.Chat;
+import com.sparta.eduwithme.domain.question.entity.Answer;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import com.sparta.eduwithme.domain.question.entity.Question;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import com.sparta.eduwithme.domain.room.entity.Room;
+import com.sparta.eduwithme.domain.room.repository.RoomRepository;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 / 문제 대량 insert 처리량 테스트 (내장 H2).
+ * pooled id 생성기 + JDBC batch 로 행마다 DB 왕복하지 않는지 SQL 문 수로 확인하고, 전체 insert 시간 상한을 검사한다.
+ * (IDENTITY 였을 때는 행마다 insert 1 문 => 문 수가 행 수와 같았다)
+ * 행 수는 -DbatchInsert.rows=N, 시간 상한은 -DbatchInsert.maxMillis=M 으로 조절.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BatchInsertThroughputTest {
+
+    private static final int ROWS = Integer.getInteger("batchInsert.rows", 1_000);
+    private static final long MAX_MILLIS = Long.getLong("batchInsert.maxMillis", 10_000L);
+    // id 블록 조회(행 50 개당 1 문) + batch insert(행 100 개당 1 문) 에 여유를 둔 상한
+    private static final int ROWS_PER_STATEMENT = 10;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private ChatRepository chatRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private User user;
+    private Room room;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = userRepository.save(new User("batch-insert@test.com", "password", "batch-insert"));
+            room = roomRepository.save(Room.builder().roomName("batch-insert-room").managerUserId(user.getId()).build());
+        });
+    }
+
+    @Test
+    void chatInsertsAreBatched() {
+        List<Chat> chats = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            chats.add(Chat.builder().content("batch chat" + i).user(user).room(room).build());
+        }
+
+        assertBatched("chats", ROWS, () -> chatRepository.saveAll(chats));
+    }
+
+    // 문제 1 건 = answers + questions 2 행
+    @Test
+    void questionInsertsAreBatched() {
+        List<Question> questions = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Question question = new Question(room, "batch title" + i, "batch content" + i, Category.MATH, Difficulty.LEVEL_ONE, 10L,
+                new Answer("1", "2", "3", "4", 1));
+            question.setOrderInRoom((long) i + 1);
+            questions.add(question);
+        }
+
+        assertBatched("questions", ROWS * 2, () -> questionRepository.saveAll(questions));
+    }
+
+    private void assertBatched(String name, int rows, Runnable insert) {
+        sqlStatementCounter.start();
+        long startedAt = System.nanoTime();
+        int statements;
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert.run());
+            statements = sqlStatementCounter.current();
+        } finally {
+            sqlStatementCounter.stop();
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(statements).as("%s: %d rows in %d statements", name, rows, statements)
+            .isLessThanOrEqualTo(rows / ROWS_PER_STATEMENT);
+        assertThat(elapsedMillis).as("%s: %d rows inserted in %d ms", name, rows, elapsedMillis).isLessThan(MAX_MILLIS);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.eduwithme.common.sketch.KllSketch;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * KLL 스케치의 순위(countBelow) 추정을 정확한 순위와 비교.
+ * 압축 시 무작위로 값을 고르므로 허용 오차는 n 의 3% (k = 200 에서 기대 오차의 수 배).
+ */
+class KllSketchTest {
+
+    private static final int K = 200;
+    private static final int N = 100_000;
+    private static final double MAX_RANK_ERROR = 0.03;
+
+    @Test
+    void randomValuesMatchExactRanks() {
+        Random random = new Random(42);
+        double[] values = new double[N];
+        KllSketch sketch = new KllSketch(K);
+        for (int i = 0; i < N; i++) {
+            values[i] = random.nextInt(1_000_000);
+            sketch.update(values[i]);
+        }
+
+        assertRanksClose(sketch.snapshot(), values);
+    }
+
+    // 포인트 분포처럼 대부분 0 이고 나머지도 몇 개 값에 몰린 경우
+    @Test
+    void heavilyTiedValuesMatchExactRanks() {
+        Random random = new Random(7);
+        double[] values = new double[N];
+        KllSketch sketch = new KllSketch(K);
+        for (int i = 0; i < N; i++) {
+            values[i] = random.nextInt(10) < 7 ? 0 : random.nextInt(5) * 10;
+            sketch.update(values[i]);
+        }
+
+        KllSketch.Snapshot snapshot = sketch.snapshot();
+        assertRanksClose(snapshot, values);
+        // 가장 작은 값보다 작은 값은 없다
+        assertThat(snapshot.countBelow(0)).isZero();
+    }
+
+    @Test
+    void mergedSketchMatchesExactRanksOfUnion() {
+        Random random = new Random(11);
+        double[] values = new double[N];
+        KllSketch left = new KllSketch(K);
+        KllSketch right = new KllSketch(K);
+        for (int i = 0; i < N; i++) {
+            // 두 스케치의 값 범위를 겹치지 않게 나눠서 합친 결과의 순위를 본다
+            if (i % 2 == 0) {
+                values[i] = random.nextInt(500_000);
+                left.update(values[i]);
+            } else {
+                values[i] = 500_000 + random.nextInt(500_000);
+                right.update(values[i]);
+            }
+        }
+
+        left.merge(right);
+
+        assertThat(left.getN()).isEqualTo(N);
+        assertRanksClose(left.snapshot(), values);
+    }
+
+    private static void assertRanksClose(KllSketch.Snapshot snapshot, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        long tolerance = (long) (MAX_RANK_ERROR * sorted.length);
+
+        assertThat(snapshot.getN()).isEqualTo(sorted.length);
+        for (int q = 0; q <= 100; q++) {
+            double probe = sorted[Math.min(sorted.length - 1, q * (sorted.length - 1) / 100)];
+            long exact = exactCountBelow(sorted, probe);
+            assertThat(snapshot.countBelow(probe))
+                .as("countBelow(%s)", probe)
+                .isBetween(exact - tolerance, exact + tolerance);
+        }
+    }
+
+    private static long exactCountBelow(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
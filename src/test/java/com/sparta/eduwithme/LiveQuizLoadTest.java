@@ -0,0 +1,201 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.eduwithme.domain.question.entity.Answer;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import com.sparta.eduwithme.domain.question.entity.Question;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import com.sparta.eduwithme.domain.quiz.LiveQuizService;
+import com.sparta.eduwithme.domain.quiz.dto.LiveQuizQuestionRequestDto;
+import com.sparta.eduwithme.domain.room.entity.Room;
+import com.sparta.eduwithme.domain.room.repository.RoomRepository;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.util.JwtUtil;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+/**
+ * 실시간 퀴즈 부하 테스트 (STOMP 클라이언트 여러 개가 동시에 답안 제출).
+ * 모든 답안이 메모리에서 채점되어 본인에게 돌아오는지, 점수판은 답안마다가 아니라 방송 주기마다 나가는지 확인한다.
+ * 클라이언트 수는 -DliveQuiz.clients=N, 전체 답안 채점 시간 상한은 -DliveQuiz.maxLatencyMillis=M 으로 조절.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LiveQuizLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("liveQuiz.clients", 50);
+    private static final long MAX_LATENCY_MILLIS = Long.getLong("liveQuiz.maxLatencyMillis", 5_000L);
+    private static final String RESULT_DESTINATION = "/user/api/topic/quiz/result";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private LiveQuizService liveQuizService;
+    @Autowired
+    private SimpUserRegistry simpUserRegistry;
+
+    private User manager;
+    private final List<User> students = new ArrayList<>();
+    private Long roomId;
+    private Long questionId;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            manager = userRepository.save(new User("live-manager@test.com", "password", "live-manager"));
+            for (int i = 0; i < CLIENTS; i++) {
+                students.add(userRepository.save(new User("live" + i + "@test.com", "password", "live" + i)));
+            }
+
+            Room room = roomRepository.save(Room.builder().roomName("live-room").managerUserId(manager.getId()).build());
+            roomId = room.getId();
+
+            Question question = new Question(room, "live title", "live content", Category.MATH, Difficulty.LEVEL_ONE, 10L,
+                new Answer("1", "2", "3", "4", 1));
+            question.setOrderInRoom(1L);
+            questionId = questionRepository.save(question).getId();
+        });
+    }
+
+    @Test
+    void concurrentAnswersAreGradedAndScoreboardIsBroadcastPerTick() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+            new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        String url = "http://localhost:" + port + "/api/ws";
+
+        liveQuizService.startQuiz(manager, roomId);
+
+        CountDownLatch results = new CountDownLatch(CLIENTS);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger correct = new AtomicInteger();
+        AtomicInteger scoreboardMessages = new AtomicInteger();
+        AtomicLong broadcastAnsweredCount = new AtomicLong();
+
+        List<StompSession> sessions = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add(JwtUtil.ACCESS_TOKEN_HEADER, jwtUtil.createAccessToken(students.get(i)));
+            StompSession session = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+
+            session.subscribe(RESULT_DESTINATION, handler(payload -> {
+                if (Boolean.TRUE.equals(payload.get("accepted"))) {
+                    accepted.incrementAndGet();
+                }
+                if (Boolean.TRUE.equals(payload.get("correct"))) {
+                    correct.incrementAndGet();
+                }
+                results.countDown();
+            }));
+            if (i == 0) {
+                session.subscribe(LiveQuizService.topicOf(roomId), handler(payload -> {
+                    if ("SCOREBOARD".equals(payload.get("type"))) {
+                        scoreboardMessages.incrementAndGet();
+                        Map<?, ?> scoreboard = (Map<?, ?>) payload.get("scoreboard");
+                        broadcastAnsweredCount.set(((Number) scoreboard.get("answeredCount")).longValue());
+                    }
+                }));
+            }
+            sessions.add(session);
+        }
+        awaitSubscriptions(CLIENTS + 1);
+
+        LiveQuizQuestionRequestDto requestDto = new LiveQuizQuestionRequestDto();
+        ReflectionTestUtils.setField(requestDto, "questionId", questionId);
+        ReflectionTestUtils.setField(requestDto, "durationSeconds", 60);
+        liveQuizService.pushQuestion(manager, roomId, requestDto);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < CLIENTS; i++) {
+            int selectedAnswer = i % 2 == 0 ? 1 : 2;
+            sessions.get(i).send("/api/app/quiz/" + roomId + "/answer", Map.of("questionId", questionId, "selectedAnswer", selectedAnswer));
+        }
+
+        assertThat(results.await(30, TimeUnit.SECONDS)).as("all answers graded").isTrue();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        assertThat(elapsedMillis).as("%d answers graded in %d ms", CLIENTS, elapsedMillis).isLessThan(MAX_LATENCY_MILLIS);
+
+        assertThat(accepted.get()).isEqualTo(CLIENTS);
+        assertThat(correct.get()).isEqualTo((CLIENTS + 1) / 2);
+
+        // 점수판은 방송 주기마다 모아서 나간다
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (broadcastAnsweredCount.get() < CLIENTS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(broadcastAnsweredCount.get()).isEqualTo(CLIENTS);
+        assertThat(scoreboardMessages.get()).isLessThan(CLIENTS);
+
+        assertThat(liveQuizService.endQuiz(manager, roomId).getParticipantCount()).isEqualTo(CLIENTS);
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+    }
+
+    // 구독이 broker 에 등록된 뒤에 문제를 내도록 대기
+    private void awaitSubscriptions(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (simpUserRegistry.findSubscriptions(subscription -> true).size() < expected
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(simpUserRegistry.findSubscriptions(subscription -> true)).hasSizeGreaterThanOrEqualTo(expected);
+    }
+
+    private StompFrameHandler handler(Consumer<Map<?, ?>> consumer) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                consumer.accept((Map<?, ?>) payload);
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.eduwithme.domain.question.QuestionSearchIndex;
+import com.sparta.eduwithme.domain.question.entity.Answer;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import com.sparta.eduwithme.domain.question.entity.Question;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import com.sparta.eduwithme.domain.room.entity.Room;
+import com.sparta.eduwithme.domain.room.repository.RoomRepository;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 문제 검색 비교 (bigram 역색인 vs 기존 LIKE 쿼리, 내장 H2).
+ * 제목에 검색어가 들어간 문제가 색인 결과 맨 앞에 LIKE 결과와 같은 집합으로 오는지 확인하고,
+ * 같은 검색어 목록을 반복 검색했을 때 색인이 LIKE 보다 빠른지 검사한다.
+ * 방의 문제 수는 -DquestionSearch.questions=N, 반복 횟수는 -DquestionSearch.iterations=M 으로 조절.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QuestionSearchBenchmarkTest {
+
+    private static final int QUESTIONS = Integer.getInteger("questionSearch.questions", 2_000);
+    private static final int ITERATIONS = Integer.getInteger("questionSearch.iterations", 50);
+    private static final int PAGE_SIZE = 10;
+    private static final List<String> WORDS = List.of("분수", "방정식", "확률", "함수", "도형", "통계", "수열", "벡터");
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    private Room room;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User manager = userRepository.save(new User("search-manager@test.com", "password", "search-manager"));
+            room = roomRepository.save(Room.builder().roomName("search-room").managerUserId(manager.getId()).build());
+
+            // 검색어마다 제목에 들어간 문제와 내용에만 들어간 문제가 따로 있도록 섞는다
+            for (int i = 0; i < QUESTIONS; i++) {
+                Question question = new Question(room, WORDS.get(i % WORDS.size()) + " 연습 " + i,
+                    WORDS.get((i + 1) % WORDS.size()) + " 풀이 과정", Category.MATH, Difficulty.LEVEL_ONE, 10L,
+                    new Answer("1", "2", "3", "4", 1));
+                question.setOrderInRoom((long) i + 1);
+                questionRepository.save(question);
+            }
+        });
+        // 저장소에 직접 넣었으므로 시작 시 재구성과 같은 경로로 다시 색인
+        questionSearchIndex.rebuild();
+    }
+
+    @Test
+    void indexRanksTitleMatchesFirst() {
+        for (String word : WORDS) {
+            List<Long> likeIds = questionRepository.findByRoomAndTitleContainingIgnoreCase(room, word, PageRequest.of(0, QUESTIONS))
+                .getContent().stream().map(Question::getId).toList();
+            List<Long> indexIds = questionSearchIndex.search(room.getId(), word, 0, QUESTIONS);
+
+            assertThat(likeIds).as("title matches for %s", word).isNotEmpty();
+            assertThat(indexIds).as("title + content matches for %s", word).hasSizeGreaterThan(likeIds.size());
+            assertThat(new HashSet<>(indexIds.subList(0, likeIds.size()))).as("index head for %s", word)
+                .isEqualTo(new HashSet<>(likeIds));
+        }
+    }
+
+    @Test
+    void indexSearchIsFasterThanLike() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "updatedAt"));
+        // 첫 실행 비용(쿼리 계획, JIT)이 한쪽에만 들어가지 않도록 한 바퀴씩 먼저 돌린다
+        searchWithLike(pageable, 1);
+        searchWithIndex(1);
+
+        long likeNanos = searchWithLike(pageable, ITERATIONS);
+        long indexNanos = searchWithIndex(ITERATIONS);
+
+        assertThat(indexNanos)
+            .as("%d questions x %d searches: index %d us, like %d us",
+                QUESTIONS, ITERATIONS * WORDS.size(), indexNanos / 1_000, likeNanos / 1_000)
+            .isLessThan(likeNanos);
+    }
+
+    private long searchWithLike(PageRequest pageable, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (String word : WORDS) {
+                questionRepository.findByRoomAndTitleContainingIgnoreCase(room, word, pageable);
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long searchWithIndex(int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (String word : WORDS) {
+                questionSearchIndex.search(room.getId(), word, 0, PAGE_SIZE);
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+}
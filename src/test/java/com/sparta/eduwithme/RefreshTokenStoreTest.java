@@ -0,0 +1,62 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.eduwithme.security.InMemoryRefreshTokenStore;
+import com.sparta.eduwithme.security.RedisRefreshTokenStore;
+import com.sparta.eduwithme.security.RefreshTokenStore;
+import com.sparta.eduwithme.util.RedisUtil;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 리프레시 토큰 family 저장소.
+ * 재발급(rotation)을 거친 family 도 revokeAll(비밀번호 변경, 회원 탈퇴) 로 폐기되어야 한다.
+ */
+class RefreshTokenStoreTest {
+
+    private static final String EMAIL = "rotate@test.com";
+    private static final long TTL_MILLIS = 60_000L;
+
+    @Test
+    void rotatedFamilyIsRevokedByRevokeAll() {
+        RefreshTokenStore store = new InMemoryRefreshTokenStore();
+        store.createFamily(EMAIL, "family-1", "digest-1", TTL_MILLIS);
+
+        assertThat(store.rotate(EMAIL, "family-1", "digest-1", "digest-2", TTL_MILLIS)).isTrue();
+        assertThat(store.rotate(EMAIL, "family-1", "digest-2", "digest-3", TTL_MILLIS)).isTrue();
+
+        store.revokeAll(EMAIL);
+
+        assertThat(store.rotate(EMAIL, "family-1", "digest-3", "digest-4", TTL_MILLIS)).isFalse();
+    }
+
+    @Test
+    void reusedTokenRevokesFamily() {
+        RefreshTokenStore store = new InMemoryRefreshTokenStore();
+        store.createFamily(EMAIL, "family-1", "digest-1", TTL_MILLIS);
+
+        assertThat(store.rotate(EMAIL, "family-1", "digest-1", "digest-2", TTL_MILLIS)).isTrue();
+        assertThat(store.rotate(EMAIL, "family-1", "digest-1", "digest-3", TTL_MILLIS)).isFalse();
+        assertThat(store.rotate(EMAIL, "family-1", "digest-2", "digest-3", TTL_MILLIS)).isFalse();
+    }
+
+    // Redis 구현은 교체 스크립트 안에서 유저 family 목록(KEYS[2])도 함께 늘린다
+    @Test
+    void redisRotationRefreshesUserIndex() {
+        RedisUtil redisUtil = mock(RedisUtil.class);
+        RefreshTokenStore store = new RedisRefreshTokenStore(redisUtil);
+
+        store.rotate(EMAIL, "family-1", "digest-1", "digest-2", TTL_MILLIS);
+
+        verify(redisUtil).executeScript(
+            any(),
+            eq(List.of("refresh:family:family-1", "refresh:user:" + EMAIL)),
+            eq("digest-1"), eq("digest-2"), eq(String.valueOf(TTL_MILLIS)), eq("family-1")
+        );
+    }
+}
@@ -0,0 +1,209 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.sparta.eduwithme.common.diagnostics.SqlStatementCountAdvice;
+import com.sparta.eduwithme.domain.chat.ChatRepository;
+import com.sparta.eduwithme.domain.chat.entity.Chat;
+import com.sparta.eduwithme.domain.comment.CommentRepository;
+import com.sparta.eduwithme.domain.comment.dto.CommentRequestDto;
+import com.sparta.eduwithme.domain.comment.entity.Comment;
+import com.sparta.eduwithme.domain.question.entity.Answer;
+import com.sparta.eduwithme.domain.question.entity.Category;
+import com.sparta.eduwithme.domain.question.entity.Difficulty;
+import com.sparta.eduwithme.domain.question.entity.LearningStatus;
+import com.sparta.eduwithme.domain.question.entity.Question;
+import com.sparta.eduwithme.domain.question.entity.QuestionType;
+import com.sparta.eduwithme.domain.question.repository.LearningStatusRepository;
+import com.sparta.eduwithme.domain.question.repository.QuestionRepository;
+import com.sparta.eduwithme.domain.quiz.LiveQuizService;
+import com.sparta.eduwithme.domain.quiz.QuizSessionService;
+import com.sparta.eduwithme.domain.quiz.dto.QuizSessionRequestDto;
+import com.sparta.eduwithme.domain.room.entity.Room;
+import com.sparta.eduwithme.domain.room.entity.Student;
+import com.sparta.eduwithme.domain.room.repository.RoomRepository;
+import com.sparta.eduwithme.domain.room.repository.StudentRepository;
+import com.sparta.eduwithme.domain.user.UserRepository;
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.security.UserDetailsImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 조회 API 별 SQL 문 수 상한 검사 (N+1 회귀 방지).
+ * 행 수(SEED_SIZE)보다 훨씬 작은 상한을 두므로, 목록을 돌며 연관 엔티티를 하나씩 조회하게 되면 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "diagnostics"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementBudgetTest {
+
+    private static final int SEED_SIZE = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ChatRepository chatRepository;
+    @Autowired
+    private LearningStatusRepository learningStatusRepository;
+    @Autowired
+    private QuizSessionService quizSessionService;
+    @Autowired
+    private LiveQuizService liveQuizService;
+
+    private User manager;
+    private Long roomId;
+    private Long questionId;
+    private String openSessionId;
+    private String closedSessionId;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < SEED_SIZE; i++) {
+                users.add(userRepository.save(new User("user" + i + "@test.com", "password", "user" + i)));
+            }
+            manager = users.get(0);
+
+            Room room = roomRepository.save(Room.builder().roomName("budget-room").managerUserId(manager.getId()).build());
+            roomId = room.getId();
+
+            List<Question> questions = new ArrayList<>();
+            for (int i = 0; i < SEED_SIZE; i++) {
+                Question question = new Question(room, "title" + i, "content" + i, Category.MATH, Difficulty.LEVEL_ONE, 10L,
+                    new Answer("1", "2", "3", "4", 1));
+                question.setOrderInRoom((long) i + 1);
+                questions.add(questionRepository.save(question));
+            }
+            Question first = questions.get(0);
+            questionId = first.getId();
+
+            for (int i = 0; i < SEED_SIZE; i++) {
+                User member = users.get(i);
+                studentRepository.save(Student.builder().user(member).room(room).build());
+                chatRepository.save(Chat.builder().content("chat" + i).user(member).room(room).build());
+
+                CommentRequestDto commentRequestDto = new CommentRequestDto();
+                ReflectionTestUtils.setField(commentRequestDto, "comment", "comment" + i);
+                commentRepository.save(new Comment(commentRequestDto, first, member));
+                commentRepository.save(new Comment(commentRequestDto, questions.get(i), manager));
+
+                QuestionType type = i % 2 == 0 ? QuestionType.SOLVE : QuestionType.WRONG;
+                learningStatusRepository.save(new LearningStatus(questions.get(i), manager, type));
+                if (i > 0) {
+                    learningStatusRepository.save(new LearningStatus(first, member, QuestionType.SOLVE));
+                }
+            }
+        });
+
+        // 퀴즈 조회 API 는 진행 중 / 종료된 세션이 있어야 200 (방마다 진행 중인 세션은 하나)
+        closedSessionId = quizSessionService.openSession(manager, roomId, quizSessionRequest()).getSessionId();
+        quizSessionService.closeSession(manager, roomId, closedSessionId);
+        openSessionId = quizSessionService.openSession(manager, roomId, quizSessionRequest()).getSessionId();
+        liveQuizService.startQuiz(manager, roomId);
+    }
+
+    @AfterAll
+    void closeQuizzes() {
+        quizSessionService.closeSession(manager, roomId, openSessionId);
+        liveQuizService.endQuiz(manager, roomId);
+    }
+
+    private QuizSessionRequestDto quizSessionRequest() {
+        QuizSessionRequestDto requestDto = new QuizSessionRequestDto();
+        ReflectionTestUtils.setField(requestDto, "questionIds", List.of(questionId));
+        ReflectionTestUtils.setField(requestDto, "durationSeconds", 600);
+        return requestDto;
+    }
+
+    // (path, 최대 SQL 문 수)
+    Stream<Arguments> endpoints() {
+        return Stream.of(
+            Arguments.of("/api/rooms?size=" + SEED_SIZE, 2),
+            Arguments.of("/api/rooms/cursor?size=" + SEED_SIZE, 1),
+            Arguments.of("/api/rooms/{userId}", 1),
+            Arguments.of("/api/rooms/one/{roomId}", 1),
+            Arguments.of("/api/rooms/{roomId}/users", 1),
+            Arguments.of("/api/room/{roomId}", 1),
+            Arguments.of("/api/rooms/{roomId}/question?size=" + SEED_SIZE, 3),
+            Arguments.of("/api/rooms/{roomId}/question/cursor?size=" + SEED_SIZE, 2),
+            Arguments.of("/api/rooms/{roomId}/question/stats", 3),
+            // 색인 준비 전이면 LIKE 검색 (목록 + count) 으로 1 문 더
+            Arguments.of("/api/search/rooms/{roomId}/question/title?keyword=title", 3),
+            Arguments.of("/api/rooms/{roomId}/question/next", 3),
+            Arguments.of("/api/rooms/{roomId}/question/{questionId}", 4),
+            Arguments.of("/api/rooms/{roomId}/question/{questionId}/solved-students?size=" + SEED_SIZE, 5),
+            Arguments.of("/api/question/{questionId}/comments", 3),
+            Arguments.of("/api/question/{questionId}/comments/cursor?size=" + SEED_SIZE, 2),
+            Arguments.of("/api/profiles", 2),
+            Arguments.of("/api/profiles/solve?size=" + SEED_SIZE, 2),
+            Arguments.of("/api/profiles/solve/cursor?size=" + SEED_SIZE, 1),
+            Arguments.of("/api/profiles/wrong?size=" + SEED_SIZE, 2),
+            Arguments.of("/api/profiles/wrong/cursor?size=" + SEED_SIZE, 1),
+            Arguments.of("/api/profiles/comments?size=" + SEED_SIZE, 2),
+            Arguments.of("/api/profiles/review-due?size=" + SEED_SIZE, 1),
+            Arguments.of("/api/leaderboard?size=" + SEED_SIZE, 1),
+            Arguments.of("/api/leaderboard/me", 1),
+            Arguments.of("/api/rooms/{roomId}/leaderboard?size=" + SEED_SIZE, 1),
+            Arguments.of("/api/rooms/{roomId}/leaderboard/me", 1),
+            // 퀴즈 진행 상태 / 점수판 / 결과는 메모리에서만 읽는다
+            Arguments.of("/api/rooms/{roomId}/quiz-sessions/{openSessionId}", 0),
+            Arguments.of("/api/rooms/{roomId}/quiz-sessions/{closedSessionId}/result", 0),
+            Arguments.of("/api/rooms/{roomId}/live-quiz/scoreboard", 0)
+        );
+    }
+
+    @ParameterizedTest(name = "{0} <= {1}")
+    @MethodSource("endpoints")
+    void statementCountWithinBudget(String path, int budget) throws Exception {
+        String uri = path;
+        for (Map.Entry<String, String> placeholder : Map.of(
+            "{userId}", manager.getId().toString(),
+            "{roomId}", roomId.toString(),
+            "{questionId}", questionId.toString(),
+            "{openSessionId}", openSessionId,
+            "{closedSessionId}", closedSessionId).entrySet()) {
+            uri = uri.replace(placeholder.getKey(), placeholder.getValue());
+        }
+
+        MockHttpServletResponse response = mockMvc.perform(get(uri).with(user(new UserDetailsImpl(manager))))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).as(uri).isEqualTo(200);
+        String header = response.getHeader(SqlStatementCountAdvice.HEADER);
+        assertThat(header).as("%s header on %s", SqlStatementCountAdvice.HEADER, uri).isNotNull();
+        assertThat(Integer.parseInt(header)).as("SQL statements for %s", uri).isLessThanOrEqualTo(budget);
+    }
+}
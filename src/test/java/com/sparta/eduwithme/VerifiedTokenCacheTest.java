@@ -0,0 +1,60 @@
+package com.sparta.eduwithme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.eduwithme.domain.user.entity.User;
+import com.sparta.eduwithme.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 검증된 토큰 캐시의 cold / warm 비교.
+ * 처음 보는 토큰은 서명 검증 + 파싱(cold), 같은 토큰을 다시 보면 digest 조회 한 번(warm)으로 끝나는지 확인한다.
+ * 토큰 수는 -DverifiedToken.tokens=N 으로 조절 (jwt.verified-cache.max-size 이하).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class VerifiedTokenCacheTest {
+
+    private static final int TOKENS = Integer.getInteger("verifiedToken.tokens", 2_000);
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void warmLookupsReuseClaimsAndAreFasterThanColdParses() {
+        // 같은 초에 같은 사용자로 만든 토큰은 같으므로 사용자를 달리한다
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            User user = User.ofClaims((long) i, "verified" + i + "@test.com", "verified" + i);
+            tokens.add(jwtUtil.createAccessToken(user).substring(JwtUtil.BEARER_PREFIX.length()));
+        }
+
+        List<Claims> coldClaims = new ArrayList<>(TOKENS);
+        long coldStartedAt = System.nanoTime();
+        for (String token : tokens) {
+            coldClaims.add(jwtUtil.getVerifiedClaims(token));
+        }
+        long coldNanos = System.nanoTime() - coldStartedAt;
+
+        List<Claims> warmClaims = new ArrayList<>(TOKENS);
+        long warmStartedAt = System.nanoTime();
+        for (String token : tokens) {
+            warmClaims.add(jwtUtil.getVerifiedClaims(token));
+        }
+        long warmNanos = System.nanoTime() - warmStartedAt;
+
+        for (int i = 0; i < TOKENS; i++) {
+            assertThat(coldClaims.get(i).getSubject()).isEqualTo("verified" + i + "@test.com");
+            assertThat(warmClaims.get(i)).as("warm lookup of token %d", i).isSameAs(coldClaims.get(i));
+        }
+        assertThat(warmNanos)
+            .as("%d tokens: cold %d us, warm %d us", TOKENS, coldNanos / 1_000, warmNanos / 1_000)
+            .isLessThan(coldNanos);
+    }
+}